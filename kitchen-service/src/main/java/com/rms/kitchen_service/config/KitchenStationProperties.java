@@ -0,0 +1,34 @@
+package com.rms.kitchen_service.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Kitchen stations and the menu items each one prepares, e.g.
+ * {@code kitchen.stations.grill: 3,7,12}. Items not listed go to
+ * {@link #DEFAULT_STATION}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "kitchen")
+public class KitchenStationProperties {
+
+    public static final String DEFAULT_STATION = "main";
+
+    private Map<String, List<Long>> stations = new LinkedHashMap<>();
+
+    public String stationOf(Long menuItemId) {
+        for (Map.Entry<String, List<Long>> station : stations.entrySet()) {
+            if (station.getValue().contains(menuItemId)) {
+                return station.getKey();
+            }
+        }
+        return DEFAULT_STATION;
+    }
+}
@@ -1,23 +1,127 @@
 package com.rms.kitchen_service.consumers;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import com.rms.kitchen_service.dto.OrderMessageIncomming;
 import com.rms.kitchen_service.handlers.IMessageHandler;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Consumes order-events a poll at a time. Offsets are committed once the whole
+ * batch has been written (ack-mode batch); a failed bulk write rethrows so the
+ * batch is redelivered.
+ *
+ * <p>Partitions are spread over {@code spring.kafka.listener.concurrency}
+ * consumers. Within a batch, records can additionally be split into
+ * {@code kitchen.consumer.key-shards} shards by record key (the orderId) and
+ * written concurrently on virtual threads; every event of one order lands in the
+ * same shard in offset order, so per-order ordering is kept.
+ */
 @Component
 public class OderEventMessageConsumer {
 
-    @Autowired
-    private IMessageHandler messageHandler;
+    private final IMessageHandler messageHandler;
+    private final int keyShards;
+    private final ExecutorService shardExecutor;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    public OderEventMessageConsumer(IMessageHandler messageHandler, MeterRegistry meterRegistry,
+            @Value("${kitchen.consumer.key-shards:1}") int keyShards) {
+        this.messageHandler = messageHandler;
+        this.keyShards = Math.max(1, keyShards);
+        this.shardExecutor = this.keyShards > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        Gauge.builder("kitchen.consumer.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest order event in the last consumed batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("kitchen.consumer.batch.size")
+                .description("Order events per consumed batch")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("kitchen.consumer.batch.duration")
+                .description("Time to persist one consumed batch")
+                .register(meterRegistry);
+    }
 
-    @KafkaListener(topics = "order-events")
-    public void consume(@Payload OrderMessageIncomming orderMessageIncomming)
+    @KafkaListener(topics = "order-events", batch = "true")
+    public void consume(List<ConsumerRecord<String, OrderMessageIncomming>> records)
     {
-        messageHandler.messageProcess(orderMessageIncomming);
+        if (records.isEmpty()) {
+            return;
+        }
+        long oldest = records.stream().mapToLong(ConsumerRecord::timestamp).min().getAsLong();
+        lagMillis.set(Math.max(0, System.currentTimeMillis() - oldest));
+        batchSizeSummary.record(records.size());
+
+        batchTimer.record(() -> {
+            if (shardExecutor == null || records.size() == 1) {
+                messageHandler.messageProcess(values(records));
+            } else {
+                processSharded(records);
+            }
+        });
+    }
+
+    private void processSharded(List<ConsumerRecord<String, OrderMessageIncomming>> records) {
+        List<List<OrderMessageIncomming>> shards = new ArrayList<>(keyShards);
+        for (int i = 0; i < keyShards; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (ConsumerRecord<String, OrderMessageIncomming> record : records) {
+            if (record.value() != null) {
+                shards.get(shardOf(record)).add(record.value());
+            }
+        }
+
+        CompletableFuture<?>[] writes = shards.stream()
+                .filter(shard -> !shard.isEmpty())
+                .map(shard -> CompletableFuture.runAsync(() -> messageHandler.messageProcess(shard), shardExecutor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(writes).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int shardOf(ConsumerRecord<String, OrderMessageIncomming> record) {
+        Object key = record.key() != null ? record.key() : record.value().getOrderId();
+        return key == null ? 0 : Math.floorMod(key.hashCode(), keyShards);
+    }
+
+    private static List<OrderMessageIncomming> values(List<ConsumerRecord<String, OrderMessageIncomming>> records) {
+        return records.stream()
+                .map(ConsumerRecord::value)
+                .filter(message -> message != null)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (shardExecutor != null) {
+            shardExecutor.close();
+        }
     }
 
 }
@@ -1,19 +1,31 @@
 package com.rms.kitchen_service.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.rms.kitchen_service.dto.KitchenOrderEta;
+import com.rms.kitchen_service.dto.KitchenTicketPage;
+import com.rms.kitchen_service.dto.ScheduledItem;
 import com.rms.kitchen_service.entity.KitchenOrder;
 import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.PriorityEnum;
 import com.rms.kitchen_service.enums.StatusEnum;
+import com.rms.kitchen_service.services.Interface.IKitchenFeedService;
+import com.rms.kitchen_service.services.Interface.IKitchenSchedulerService;
 import com.rms.kitchen_service.services.Interface.IKitchenService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +40,12 @@ public class KitchenController {
     @Autowired
     private IKitchenService kitchenService;
 
+    @Autowired
+    private IKitchenFeedService kitchenFeedService;
+
+    @Autowired
+    private IKitchenSchedulerService kitchenSchedulerService;
+
     @PutMapping("/update-item-status/{id}/{status}")
     @Operation(summary = "Update ordered Item status", description = "Updated the ordered item status by using kitchenOrderID and status")
     public ResponseEntity<?> updateStatus(@PathVariable String id, @PathVariable StatusEnum status){
@@ -69,6 +87,53 @@ public class KitchenController {
 
     }
 
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Live kitchen feed", description = "Server-sent events for new tickets, item status changes and ready/served orders, optionally limited to one station")
+    public SseEmitter feed(@RequestParam(required = false) String station) {
+        return kitchenFeedService.subscribe(station);
+    }
+
+    @GetMapping("/active-tickets")
+    @Operation(summary = "Active tickets", description = "Oldest-first page of tickets not yet served or cancelled; pass nextCursor back as cursor for the next page")
+    public KitchenTicketPage getActiveTickets(@RequestParam(required = false) List<StatusEnum> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return kitchenService.getActiveTickets(status, cursor, size);
+    }
+
+    @GetMapping("/stations/{station}/next")
+    @Operation(summary = "Next item for a station", description = "Show the pending item the station should start next, without claiming it")
+    public ResponseEntity<ScheduledItem> nextItem(@PathVariable String station) {
+        return ResponseEntity.of(kitchenSchedulerService.peekNext(station));
+    }
+
+    @PostMapping("/stations/{station}/claim")
+    @Operation(summary = "Claim next item", description = "Take the next pending item off the station queue and mark it PREPARING")
+    public ResponseEntity<ScheduledItem> claimItem(@PathVariable String station) {
+        Optional<ScheduledItem> claimed = kitchenSchedulerService.claimNext(station);
+        claimed.ifPresent(item -> kitchenService.updateItemStatus(item.getItemID(), StatusEnum.PREPARING));
+        return claimed.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/stations")
+    @Operation(summary = "Station queue depths", description = "Number of pending items queued at each station")
+    public Map<String, Integer> stationQueues() {
+        return kitchenSchedulerService.queueDepths();
+    }
+
+    @PutMapping("/update-order-priority/{id}/{priority}")
+    @Operation(summary = "Update order priority", description = "Change a ticket's priority and reschedule its pending items, using kitchenOrderID")
+    public ResponseEntity<?> changeOrderPriority(@PathVariable String id, @PathVariable PriorityEnum priority) {
+        kitchenService.updateOrderPriority(id, priority);
+        return ResponseEntity.ok("Order priority updated successfully");
+    }
+
+    @GetMapping("/orders/{id}/eta")
+    @Operation(summary = "Order ETA", description = "Expected and 90th-percentile ready times for a ticket, from learned per-item prep times, using kitchenOrderID")
+    public KitchenOrderEta getOrderEta(@PathVariable String id) {
+        return kitchenService.getOrderEta(id);
+    }
+
     @GetMapping("/allOrders")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Get all orders", description = "Show all orders")
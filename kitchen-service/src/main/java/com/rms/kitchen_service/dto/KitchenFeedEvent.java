@@ -0,0 +1,43 @@
+package com.rms.kitchen_service.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Delta pushed to kitchen displays. {@code ticket} is only set for
+ * {@link Type#TICKET_CREATED}; {@link Type#RESYNC} tells a display that updates
+ * were dropped and it should reload its queue.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KitchenFeedEvent {
+
+    private Type type;
+
+    private String kitchenOrderID;
+
+    private String itemID;
+
+    private String station;
+
+    private StatusEnum status;
+
+    private KitchenOrder ticket;
+
+    private LocalDateTime timestamp;
+
+    public enum Type {
+        TICKET_CREATED, ITEM_STATUS_CHANGED, ORDER_STATUS_CHANGED, RESYNC
+    }
+}
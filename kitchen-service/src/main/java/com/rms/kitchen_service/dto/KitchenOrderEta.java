@@ -0,0 +1,33 @@
+package com.rms.kitchen_service.dto;
+
+import java.time.LocalDateTime;
+
+import com.rms.kitchen_service.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenOrderEta {
+
+    private String kitchenOrderID;
+
+    private Long orderID;
+
+    private StatusEnum status;
+
+    private LocalDateTime expectedReadyAt; // from each item's moving average
+
+    private LocalDateTime latestReadyAt; // from each item's 90th percentile
+
+    private long remainingSeconds;
+
+    private boolean fromHistory; // false when any open item fell back to the default prep time
+
+    private LocalDateTime calculatedAt;
+}
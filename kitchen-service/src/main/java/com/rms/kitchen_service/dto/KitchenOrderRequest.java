@@ -2,7 +2,9 @@ package com.rms.kitchen_service.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import com.rms.kitchen_service.enums.PriorityEnum;
 import com.rms.kitchen_service.enums.StatusEnum;
 
 import lombok.AllArgsConstructor;
@@ -26,6 +28,8 @@ public class KitchenOrderRequest {
 
     private StatusEnum status;
 
+    private PriorityEnum priority;
+
     private String specialInstructions;
 
     private BigDecimal totalPrice;
@@ -34,4 +38,6 @@ public class KitchenOrderRequest {
 
     private LocalDateTime updatedAt;
 
+    private List<KitchenOrderedItemRequest> items;
+
 }
\ No newline at end of file
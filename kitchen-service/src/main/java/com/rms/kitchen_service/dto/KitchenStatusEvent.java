@@ -0,0 +1,25 @@
+package com.rms.kitchen_service.dto;
+
+import java.time.LocalDateTime;
+
+import com.rms.kitchen_service.enums.OrderProgressEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenStatusEvent {
+
+    private Long orderId;
+
+    private String kitchenOrderID;
+
+    private OrderProgressEnum status;
+
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,54 @@
+package com.rms.kitchen_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.rms.kitchen_service.enums.PriorityEnum;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a kitchen display needs to draw one ticket; prices, user details and
+ * timestamps other than {@code createdAt} are left out.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenTicketCard {
+
+    private String id;
+
+    private Long orderID;
+
+    private StatusEnum status;
+
+    private PriorityEnum priority;
+
+    private String specialInstructions;
+
+    private LocalDateTime createdAt;
+
+    private List<TicketItem> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TicketItem {
+
+        private String id;
+
+        private String orderedItemName;
+
+        private Integer quantity;
+
+        private StatusEnum status;
+
+        private String specialRequests;
+    }
+}
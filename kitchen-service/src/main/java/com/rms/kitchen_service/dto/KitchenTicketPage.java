@@ -0,0 +1,21 @@
+package com.rms.kitchen_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenTicketPage {
+
+    private List<KitchenTicketCard> tickets;
+
+    private String nextCursor; // opaque; pass back as ?cursor= to fetch the next page
+
+    private boolean hasNext;
+}
@@ -0,0 +1,47 @@
+package com.rms.kitchen_service.dto;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import com.rms.kitchen_service.enums.PriorityEnum;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Pending item in a station queue. Immutable because it is ordered inside a
+ * sorted set: a priority or estimate change replaces the entry.
+ */
+@Value
+@Builder
+public class ScheduledItem {
+
+    /** Latest start first, then oldest ticket, then id so distinct items never compare equal. */
+    public static final Comparator<ScheduledItem> QUEUE_ORDER = Comparator
+            .comparing(ScheduledItem::getStartBy)
+            .thenComparing(ScheduledItem::getCreatedAt)
+            .thenComparing(ScheduledItem::getItemID);
+
+    String itemID;
+
+    String kitchenOrderID;
+
+    Long orderID;
+
+    Long menuItemId;
+
+    String orderedItemName;
+
+    Integer quantity;
+
+    String station;
+
+    PriorityEnum priority;
+
+    LocalDateTime createdAt;
+
+    long estimatedPrepSeconds;
+
+    /** createdAt + the priority's target time - estimated prep time. */
+    LocalDateTime startBy;
+}
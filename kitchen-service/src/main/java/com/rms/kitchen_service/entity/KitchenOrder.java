@@ -2,8 +2,12 @@ package com.rms.kitchen_service.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.rms.kitchen_service.enums.PriorityEnum;
@@ -17,11 +21,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document("kitchen-order")
+@CompoundIndexes({
+    @CompoundIndex(name = "items_id", def = "{'items._id': 1}"),
+    // active-ticket queue: status filter, oldest first, _id as keyset tie-breaker
+    @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': 1, '_id': 1}")
+})
 public class KitchenOrder {
 
     @Id
     private String id;
 
+    // unique; the index is created by OrderIdUniqueIndexMigration once legacy duplicates are moved aside
     private Long orderID;
 
     private Long tableID;
@@ -42,4 +52,10 @@ public class KitchenOrder {
 
     private LocalDateTime updatedAt;
 
+    /**
+     * Ordered items embedded as a sub-document array, so an order and its items
+     * are read and updated in one round trip.
+     */
+    private List<KitchenOrderedItem> items = new ArrayList<>();
+
 }
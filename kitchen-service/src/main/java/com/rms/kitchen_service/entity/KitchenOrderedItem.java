@@ -1,6 +1,7 @@
 package com.rms.kitchen_service.entity;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -12,6 +13,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * Embedded in {@link KitchenOrder#getItems()}. The {@code kitchen-ordered-item}
+ * collection is only read by the migration that folds it into the orders.
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -38,4 +43,9 @@ public class KitchenOrderedItem {
 
     private String specialRequests;
 
+    // transition times feeding the prep-time estimator
+    private LocalDateTime preparingAt;
+
+    private LocalDateTime readyAt;
+
 }
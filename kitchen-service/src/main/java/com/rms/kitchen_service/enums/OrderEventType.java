@@ -0,0 +1,22 @@
+package com.rms.kitchen_service.enums;
+
+/**
+ * Event types published by order-service on order-events. Anything the kitchen
+ * does not know maps to {@link #UNKNOWN}; events without a type are treated as
+ * {@link #ORDER_PLACED}, which is what older producers sent.
+ */
+public enum OrderEventType {
+
+    ORDER_PLACED, ORDER_CONFIRMED, ORDER_CANCELLED, ORDER_STATUS_CHANGED, PAYMENT_STATUS_CHANGED, UNKNOWN;
+
+    public static OrderEventType from(String eventType) {
+        if (eventType == null) {
+            return ORDER_PLACED;
+        }
+        try {
+            return valueOf(eventType);
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+}
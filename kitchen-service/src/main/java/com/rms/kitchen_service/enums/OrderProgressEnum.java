@@ -0,0 +1,11 @@
+package com.rms.kitchen_service.enums;
+
+/**
+ * Order status values the kitchen reports back to order-service, in the order
+ * they happen; names match order-service's {@code Order.OrderStatus}.
+ */
+public enum OrderProgressEnum {
+
+    PREPARING, READY, DELIVERED
+
+}
@@ -1,9 +1,13 @@
 package com.rms.kitchen_service.handlers;
 
+import java.util.List;
+
 import com.rms.kitchen_service.dto.OrderMessageIncomming;
 
 public interface IMessageHandler {
 
     public void messageProcess(OrderMessageIncomming orderMessage);
 
+    public void messageProcess(List<OrderMessageIncomming> orderMessages);
+
 }
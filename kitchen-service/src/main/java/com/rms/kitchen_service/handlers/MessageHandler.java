@@ -2,7 +2,10 @@ package com.rms.kitchen_service.handlers;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,35 +14,110 @@ import org.springframework.stereotype.Component;
 import com.rms.kitchen_service.dto.KitchenOrderRequest;
 import com.rms.kitchen_service.dto.KitchenOrderedItemRequest;
 import com.rms.kitchen_service.dto.OrderMessageIncomming;
+import com.rms.kitchen_service.enums.OrderEventType;
+import com.rms.kitchen_service.enums.PriorityEnum;
 import com.rms.kitchen_service.enums.StatusEnum;
 import com.rms.kitchen_service.services.Interface.IKitchenService;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Component
 public class MessageHandler implements IMessageHandler {
 
+    private static final String CANCELLED = "CANCELLED";
+    private static final String DELIVERED = "DELIVERED";
+
     @Autowired
     private IKitchenService kitchenService;
 
+    @Autowired
+    private ProcessedEventCache processedEvents;
+
     public void messageProcess(OrderMessageIncomming orderMessage){
 
+        messageProcess(List.of(orderMessage));
+    }
+
+    /**
+     * Applies a batch of order events by type. New tickets are upserted on orderID in
+     * one bulk write, so ORDER_CONFIRMED and redelivered ORDER_PLACED events never
+     * duplicate a ticket; any event carrying status CANCELLED or DELIVERED closes the
+     * existing ticket, whatever its type (a failed payment cancels the order and is
+     * only reported as PAYMENT_STATUS_CHANGED); other events need no kitchen write at
+     * all. Events already applied are skipped via {@link ProcessedEventCache}.
+     */
+    public void messageProcess(List<OrderMessageIncomming> orderMessages){
+
+        Map<String, OrderMessageIncomming> fresh = new LinkedHashMap<>();
+        for (OrderMessageIncomming orderMessage : orderMessages) {
+            if (orderMessage.getOrderId() == null) {
+                log.warn("Skipping {} event without orderId", orderMessage.getEventType());
+            } else if (!processedEvents.isProcessed(orderMessage)) {
+                fresh.putIfAbsent(ProcessedEventCache.key(orderMessage), orderMessage);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        List<KitchenOrderRequest> tickets = new ArrayList<>();
+        List<OrderMessageIncomming> closings = new ArrayList<>();
+        for (OrderMessageIncomming orderMessage : fresh.values()) {
+            switch (OrderEventType.from(orderMessage.getEventType())) {
+                case ORDER_PLACED, ORDER_CONFIRMED -> tickets.add(toKitchenOrderRequest(orderMessage));
+                case ORDER_CANCELLED -> closings.add(orderMessage);
+                default -> {
+                    if (CANCELLED.equals(orderMessage.getStatus()) || DELIVERED.equals(orderMessage.getStatus())) {
+                        closings.add(orderMessage);
+                    } else {
+                        log.debug("Ignoring {} event for order {}", orderMessage.getEventType(), orderMessage.getOrderId());
+                    }
+                }
+            }
+        }
+
+        // tickets first: a cancel in the same batch must find the ticket it closes
+        kitchenService.saveKitchenOrders(tickets);
+        for (OrderMessageIncomming orderMessage : closings) {
+            if (DELIVERED.equals(orderMessage.getStatus())) {
+                kitchenService.serveKitchenOrder(orderMessage.getOrderId());
+            } else {
+                kitchenService.cancelKitchenOrder(orderMessage.getOrderId());
+            }
+        }
+
+        fresh.values().forEach(processedEvents::markProcessed);
+    }
+
+    private KitchenOrderRequest toKitchenOrderRequest(OrderMessageIncomming orderMessage){
+
         KitchenOrderRequest kor = new KitchenOrderRequest();
         kor.setOrderID(orderMessage.getOrderId());
         // kor.setTableID(orderMessage.getTableID());
         kor.setTotalPrice(orderMessage.getTotalPrice());
         kor.setUserID(orderMessage.getUserId());
         kor.setStatus(StatusEnum.PENDING);
-        kor.setCreatedAt(orderMessage.getTimestamp());
-        kor.setUpdatedAt(LocalDateTime.now(ZoneId.of("Asia/Kolkata")));
+        kor.setPriority(PriorityEnum.MEDIUM);
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Kolkata"));
+        // createdAt drives the active-ticket keyset, so it must never be null
+        kor.setCreatedAt(orderMessage.getTimestamp() != null ? orderMessage.getTimestamp() : now);
+        kor.setUpdatedAt(now);
         kor.setSpecialInstructions(orderMessage.getSpecialInstructions());
         kor.setUserEmail(orderMessage.getUserEmail());
+        kor.setItems(toKitchenOrderedItemRequests(orderMessage));
+        return kor;
+    }
 
-        String kitchenOrderID= kitchenService.saveKitchenOrder(kor);
+    private List<KitchenOrderedItemRequest> toKitchenOrderedItemRequests(OrderMessageIncomming orderMessage){
 
-        List<KitchenOrderedItemRequest> koir = orderMessage.getOrderItems()
+        if (orderMessage.getOrderItems() == null) {
+            return List.of();
+        }
+        return orderMessage.getOrderItems()
                     .stream()
                     .map(orderedItem -> {
                         KitchenOrderedItemRequest itemRequest = new KitchenOrderedItemRequest();
-                        itemRequest.setKitchenOrderID(kitchenOrderID);
                         itemRequest.setOderedItemID(orderedItem.getMenuItemId());
                         itemRequest.setOrderedItemName(orderedItem.getMenuItemName());
                         itemRequest.setQuantity(orderedItem.getQuantity());
@@ -50,8 +128,6 @@ public class MessageHandler implements IMessageHandler {
                         return itemRequest;
                     })
                     .collect(Collectors.toList());
-            
-        kitchenService.saveKitchenOrderedItem(koir);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.rms.kitchen_service.handlers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.rms.kitchen_service.dto.OrderMessageIncomming;
+
+/**
+ * Bounded LRU of recently applied order events, so Kafka redeliveries are
+ * dropped before they reach Mongo. Memory is capped at
+ * {@code kitchen.consumer.dedupe-cache-size} keys; anything evicted is still
+ * handled idempotently by the upsert on orderID, just not for free.
+ */
+@Component
+public class ProcessedEventCache {
+
+    private final Map<String, Boolean> processed;
+
+    public ProcessedEventCache(@Value("${kitchen.consumer.dedupe-cache-size:10000}") int capacity) {
+        this.processed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized boolean isProcessed(OrderMessageIncomming message) {
+        return processed.containsKey(key(message));
+    }
+
+    public synchronized void markProcessed(OrderMessageIncomming message) {
+        processed.put(key(message), Boolean.TRUE);
+    }
+
+    // events carry no id of their own; order, type, state and timestamp identify one
+    static String key(OrderMessageIncomming message) {
+        return message.getOrderId() + "|" + message.getEventType() + "|" + message.getStatus() + "|"
+                + message.getPaymentStatus() + "|" + message.getTimestamp();
+    }
+}
@@ -11,12 +11,16 @@ public class KitchenOrderRequestToKitchenOrderMapper {
         ko.setOrderID(kor.getOrderID());
         ko.setTotalPrice(kor.getTotalPrice());
         ko.setStatus(kor.getStatus());
+        ko.setPriority(kor.getPriority());
         ko.setCreatedAt(kor.getCreatedAt());
         ko.setSpecialInstructions(kor.getSpecialInstructions());
         ko.setUpdatedAt(kor.getUpdatedAt());
         ko.setUserID(kor.getUserID());
         // ko.setTableID(kor.getTableID());
         ko.setUserEmail(kor.getUserEmail());
+        if (kor.getItems() != null) {
+            ko.setItems(KitchenOrderedItemRequestToKitchenOrderedItemMapper.mapper(kor.getItems()));
+        }
         return ko;
 
     }
@@ -0,0 +1,30 @@
+package com.rms.kitchen_service.mapper;
+
+import java.util.stream.Collectors;
+
+import com.rms.kitchen_service.dto.KitchenTicketCard;
+import com.rms.kitchen_service.entity.KitchenOrder;
+
+public class KitchenOrderToKitchenTicketCardMapper {
+
+    public static KitchenTicketCard mapper(KitchenOrder ko){
+
+        return KitchenTicketCard.builder()
+                .id(ko.getId())
+                .orderID(ko.getOrderID())
+                .status(ko.getStatus())
+                .priority(ko.getPriority())
+                .specialInstructions(ko.getSpecialInstructions())
+                .createdAt(ko.getCreatedAt())
+                .items(ko.getItems().stream()
+                        .map(item -> KitchenTicketCard.TicketItem.builder()
+                                .id(item.getId())
+                                .orderedItemName(item.getOrderedItemName())
+                                .quantity(item.getQuantity())
+                                .status(item.getStatus())
+                                .specialRequests(item.getSpecialRequests())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.rms.kitchen_service.migration;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoException;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.repo.KitchenOrderedItemRepo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Folds documents from the legacy {@code kitchen-ordered-item} collection into
+ * the {@code items} array of their {@link KitchenOrder}. Only orders without an
+ * {@code items} field are touched, so the migration is safe to re-run and resumes
+ * where a previous run stopped. The legacy collection is left in place for rollback.
+ * If Mongo is unreachable the service still starts and the migration resumes on
+ * the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kitchen.migration.embed-items.enabled", havingValue = "true", matchIfMissing = true)
+@Order(1)
+public class EmbedOrderedItemsMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final KitchenOrderedItemRepo kitchenOrderedItemRepo;
+
+    @Value("${kitchen.migration.embed-items.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            migrate();
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not embed ordered items into kitchen orders, resuming on next start: {}", e.getMessage());
+        }
+    }
+
+    private void migrate() {
+        long migrated = 0;
+        List<String> ids;
+        do {
+            Query pending = query(where("items").exists(false)).limit(chunkSize);
+            pending.fields().include("_id");
+            ids = mongoTemplate.find(pending, KitchenOrder.class).stream()
+                    .map(KitchenOrder::getId)
+                    .collect(Collectors.toList());
+            if (!ids.isEmpty()) {
+                migrateChunk(ids);
+                migrated += ids.size();
+            }
+        } while (ids.size() == chunkSize);
+
+        if (migrated > 0) {
+            log.info("Embedded ordered items into {} kitchen orders", migrated);
+        }
+    }
+
+    private void migrateChunk(List<String> ids) {
+        Map<String, List<KitchenOrderedItem>> itemsByOrder = kitchenOrderedItemRepo.findByKitchenOrderIDIn(ids)
+                .stream()
+                .collect(Collectors.groupingBy(KitchenOrderedItem::getKitchenOrderID));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, KitchenOrder.class);
+        for (String id : ids) {
+            bulk.updateOne(query(where("_id").is(id)),
+                    new Update().set("items", itemsByOrder.getOrDefault(id, List.of())));
+        }
+        bulk.execute();
+    }
+}
@@ -0,0 +1,46 @@
+package com.rms.kitchen_service.migration;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoException;
+import com.rms.kitchen_service.entity.KitchenOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes declared on {@link KitchenOrder} after the migrations
+ * have run, instead of through auto-index-creation while the mapping context is
+ * built. createIndex is a no-op for an index that already exists. If Mongo is
+ * unreachable the service still starts and the indexes are created on the next
+ * start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kitchen.indexes.create-on-startup", havingValue = "true", matchIfMissing = true)
+@Order(3)
+public class KitchenOrderIndexes implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations indexOps = mongoTemplate.indexOps(KitchenOrder.class);
+        try {
+            IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(KitchenOrder.class)
+                    .forEach(indexOps::createIndex);
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not create kitchen-order indexes, retrying on next start: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.rms.kitchen_service.migration;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoException;
+import com.rms.kitchen_service.entity.KitchenOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Makes {@code orderID} unique on {@code kitchen-order}. Tickets duplicated by
+ * earlier versions (one per order event) would block the index, so for every
+ * orderID all but the oldest ticket are moved to {@code kitchen-order-duplicates}
+ * before the index is created. Copies are upserted by {@code _id} before the
+ * originals are removed, so a run interrupted in between is simply repeated on
+ * the next start. Runs on every start and is a no-op once clean. If Mongo is
+ * unreachable the service still starts and the migration runs on the next start.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kitchen.migration.order-id-unique.enabled", havingValue = "true", matchIfMissing = true)
+@Order(2)
+@RequiredArgsConstructor
+public class OrderIdUniqueIndexMigration implements ApplicationRunner {
+
+    static final String DUPLICATES_COLLECTION = "kitchen-order-duplicates";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            migrate();
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not make orderID unique on kitchen-order, retrying on next start: {}", e.getMessage());
+        }
+    }
+
+    private void migrate() {
+        Aggregation duplicates = newAggregation(
+                match(where("orderID").ne(null)),
+                group("orderID").count().as("count").push("_id").as("ids"),
+                match(where("count").gt(1)))
+                .withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        long moved = 0;
+        for (Document group : mongoTemplate.aggregate(duplicates, KitchenOrder.class, Document.class)) {
+            List<ObjectId> ids = new ArrayList<>(group.getList("ids", ObjectId.class));
+            ids.sort(null);
+            List<ObjectId> extra = ids.subList(1, ids.size());
+
+            List<Document> copies = mongoTemplate.find(query(where("_id").in(extra)), Document.class,
+                    mongoTemplate.getCollectionName(KitchenOrder.class));
+            BulkOperations archive = mongoTemplate.bulkOps(BulkMode.UNORDERED, DUPLICATES_COLLECTION);
+            for (Document copy : copies) {
+                archive.replaceOne(query(where("_id").is(copy.get("_id"))), copy, FindAndReplaceOptions.options().upsert());
+            }
+            if (!copies.isEmpty()) {
+                archive.execute();
+            }
+            mongoTemplate.remove(query(where("_id").in(extra)), KitchenOrder.class);
+            moved += extra.size();
+        }
+        if (moved > 0) {
+            log.warn("Moved {} duplicate kitchen tickets to {}", moved, DUPLICATES_COLLECTION);
+        }
+
+        mongoTemplate.indexOps(KitchenOrder.class)
+                .createIndex(new Index("orderID", Sort.Direction.ASC).unique().named("orderID_unique"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.rms.kitchen_service.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+
+import com.rms.kitchen_service.dto.OrderItemMessageIncomming;
+import com.rms.kitchen_service.dto.OrderMessageIncomming;
+
+/**
+ * Reads order events written by order-service in Avro binary form. The schema in
+ * {@code avro/order-event.avsc} is a copy of the producer's and must be kept in sync.
+ */
+public class OrderEventAvroDecoder {
+
+    public static final String CONTENT_TYPE = "application/vnd.rms.order-event.v1+avro";
+
+    private static final Schema SCHEMA = loadSchema();
+
+    private static final GenericData MODEL = new GenericData();
+
+    static {
+        MODEL.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        MODEL.addLogicalTypeConversion(new TimeConversions.LocalTimestampMicrosConversion());
+    }
+
+    private final GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA, SCHEMA, MODEL);
+
+    public OrderMessageIncomming decode(byte[] bytes) {
+        GenericRecord record;
+        try {
+            record = reader.read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode order event", e);
+        }
+
+        Long orderId = (Long) record.get("orderId");
+        List<OrderItemMessageIncomming> items = new ArrayList<>();
+        for (Object element : (List<?>) record.get("orderItems")) {
+            GenericRecord item = (GenericRecord) element;
+            items.add(OrderItemMessageIncomming.builder()
+                    .orderId(orderId)
+                    .menuItemId((Long) item.get("menuItemId"))
+                    .menuItemName(string(item.get("menuItemName")))
+                    .quantity((Integer) item.get("quantity"))
+                    .unitPrice((BigDecimal) item.get("unitPrice"))
+                    .totalPrice((BigDecimal) item.get("totalPrice"))
+                    .specialRequests(string(item.get("specialRequests")))
+                    .build());
+        }
+
+        return OrderMessageIncomming.builder()
+                .orderId(orderId)
+                .userId((Long) record.get("userId"))
+                .userEmail(string(record.get("userEmail")))
+                .eventType(string(record.get("eventType")))
+                .totalPrice((BigDecimal) record.get("totalPrice"))
+                .status(string(record.get("status")))
+                .paymentStatus(string(record.get("paymentStatus")))
+                .orderItems(items)
+                .specialInstructions(string(record.get("specialInstructions")))
+                .timestamp((LocalDateTime) record.get("timestamp"))
+                .build();
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Schema loadSchema() {
+        try (InputStream in = OrderEventAvroDecoder.class.getResourceAsStream("/avro/order-event.avsc")) {
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load avro/order-event.avsc", e);
+        }
+    }
+}
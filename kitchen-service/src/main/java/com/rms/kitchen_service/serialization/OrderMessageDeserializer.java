@@ -0,0 +1,53 @@
+package com.rms.kitchen_service.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.rms.kitchen_service.dto.OrderMessageIncomming;
+
+/**
+ * Value deserializer for order-events. Records tagged with the Avro content-type
+ * header are decoded with {@link OrderEventAvroDecoder}; everything else, including
+ * records from producers that predate the header, goes through the JSON deserializer
+ * configured by the usual {@code spring.json.*} consumer properties.
+ */
+public class OrderMessageDeserializer implements Deserializer<OrderMessageIncomming> {
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private final JsonDeserializer<OrderMessageIncomming> jsonDeserializer = new JsonDeserializer<>();
+    private final OrderEventAvroDecoder avroDecoder = new OrderEventAvroDecoder();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public OrderMessageIncomming deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public OrderMessageIncomming deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers.lastHeader(CONTENT_TYPE_HEADER);
+        if (contentType != null
+                && OrderEventAvroDecoder.CONTENT_TYPE.equals(new String(contentType.value(), StandardCharsets.UTF_8))) {
+            return avroDecoder.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,16 @@
+package com.rms.kitchen_service.services.Interface;
+
+import com.rms.kitchen_service.enums.OrderProgressEnum;
+
+public interface IKitchenEventPublisher {
+
+    /**
+     * Record that an order progressed. Changes are coalesced per order and sent
+     * to kitchen-events on the next flush; only the furthest status is sent.
+     * @param orderID order-service order id
+     * @param kitchenOrderID kitchen ticket id
+     * @param status new order-level status
+     */
+    public void orderProgressed(Long orderID, String kitchenOrderID, OrderProgressEnum status);
+
+}
@@ -0,0 +1,22 @@
+package com.rms.kitchen_service.services.Interface;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rms.kitchen_service.dto.KitchenFeedEvent;
+
+public interface IKitchenFeedService {
+
+    /**
+     * Register a display for live deltas.
+     * @param station only deliver events for this station, or all when null
+     * @return emitter streaming {@link KitchenFeedEvent}s as server-sent events
+     */
+    public SseEmitter subscribe(String station);
+
+    /**
+     * Queue an event for every interested display without blocking on any of them.
+     * @param event delta to fan out
+     */
+    public void publish(KitchenFeedEvent event);
+
+}
@@ -0,0 +1,50 @@
+package com.rms.kitchen_service.services.Interface;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.rms.kitchen_service.dto.ScheduledItem;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+
+public interface IKitchenSchedulerService {
+
+    /**
+     * Queue every PENDING item of a ticket at its station, replacing earlier entries.
+     * @param ko ticket with createdAt, priority and items populated
+     */
+    public void schedule(KitchenOrder ko);
+
+    /**
+     * Re-queue an item that went back to PENDING, or drop it once work started.
+     * @param ko owning ticket with createdAt and priority populated
+     * @param item item carrying its new status
+     */
+    public void onItemStatusChanged(KitchenOrder ko, KitchenOrderedItem item);
+
+    /**
+     * Drop every queued item of a ticket.
+     * @param kitchenOrderID ticket id
+     */
+    public void unschedule(String kitchenOrderID);
+
+    /**
+     * @param station station name
+     * @return the item the station should start next, without removing it
+     */
+    public Optional<ScheduledItem> peekNext(String station);
+
+    /**
+     * Atomically take the next item off a station queue; concurrent callers never
+     * receive the same item.
+     * @param station station name
+     * @return the claimed item, or empty when the station has nothing pending
+     */
+    public Optional<ScheduledItem> claimNext(String station);
+
+    /**
+     * @return number of queued items per station
+     */
+    public Map<String, Integer> queueDepths();
+
+}
@@ -2,20 +2,46 @@ package com.rms.kitchen_service.services.Interface;
 
 import java.util.List;
 
+import com.rms.kitchen_service.dto.KitchenOrderEta;
 import com.rms.kitchen_service.dto.KitchenOrderRequest;
-import com.rms.kitchen_service.dto.KitchenOrderedItemRequest;
+import com.rms.kitchen_service.dto.KitchenTicketPage;
 import com.rms.kitchen_service.entity.KitchenOrder;
 import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.PriorityEnum;
 import com.rms.kitchen_service.enums.StatusEnum;
 
 public interface IKitchenService {
 
     public String saveKitchenOrder(KitchenOrderRequest kor);
 
-    public void saveKitchenOrderedItem(List<KitchenOrderedItemRequest> koir);
+    /**
+     * Create tickets that do not exist yet, keyed by orderID.
+     * @param kors ticket requests
+     * @return ids of the tickets actually created; existing orders are skipped
+     */
+    public List<String> saveKitchenOrders(List<KitchenOrderRequest> kors);
+
+    public boolean cancelKitchenOrder(Long orderID);
+
+    public boolean serveKitchenOrder(Long orderID);
 
     public List<KitchenOrder> getAllOrders();
 
+    /**
+     * @param id kitchenOrderID
+     * @return when the ticket is expected to be ready, from in-memory prep-time statistics
+     */
+    public KitchenOrderEta getOrderEta(String id);
+
+    /**
+     * Oldest-first page of tickets that still need work, projected to card fields.
+     * @param statuses statuses to include; all non-terminal statuses when empty
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size page size, capped at 200
+     * @return the page and the cursor for the next one
+     */
+    public KitchenTicketPage getActiveTickets(List<StatusEnum> statuses, String cursor, int size);
+
     public boolean updateItemStatus(String id, StatusEnum status);
 
     public List<KitchenOrderedItem> getKitchenOrderStatus(String id);
@@ -24,6 +50,8 @@ public interface IKitchenService {
 
     public boolean completeOrder(String id);
 
+    public boolean updateOrderPriority(String id, PriorityEnum priority);
+
     // public void publishEvent();
 
 }
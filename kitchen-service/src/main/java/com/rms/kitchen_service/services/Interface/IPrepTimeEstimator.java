@@ -0,0 +1,34 @@
+package com.rms.kitchen_service.services.Interface;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.rms.kitchen_service.dto.KitchenOrderEta;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+
+public interface IPrepTimeEstimator {
+
+    /**
+     * Feed an item's transition into a new status; called once per transition, so
+     * a READY item with both timestamps adds exactly one sample for its menu item.
+     * @param item item carrying its status and transition timestamps
+     */
+    public void onItemStatusChanged(KitchenOrderedItem item);
+
+    /**
+     * @param menuItemId menu item id
+     * @return expected prep time, or the default until enough samples exist
+     */
+    public Duration expectedPrepTime(Long menuItemId);
+
+    /**
+     * Estimate when a ticket will be ready from in-memory statistics only.
+     * Pending items are assumed to start now; queue wait is not included.
+     * @param ko ticket with status and items populated
+     * @param now reference time
+     * @return ready-time estimate
+     */
+    public KitchenOrderEta estimate(KitchenOrder ko, LocalDateTime now);
+
+}
@@ -0,0 +1,78 @@
+package com.rms.kitchen_service.services;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.rms.kitchen_service.dto.KitchenStatusEvent;
+import com.rms.kitchen_service.enums.OrderProgressEnum;
+import com.rms.kitchen_service.services.Interface.IKitchenEventPublisher;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes order progress to kitchen-events, keyed by orderId. Item-level
+ * changes arrive in bursts (every item of a ticket moving to PREPARING), so they
+ * are held for {@code kitchen.events.coalesce-window-ms} and at most one event
+ * per order is sent per window, carrying the furthest status reached.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KitchenEventPublisher implements IKitchenEventPublisher {
+
+    private static final String KITCHEN_TOPIC = "kitchen-events";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final Map<Long, KitchenStatusEvent> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void orderProgressed(Long orderID, String kitchenOrderID, OrderProgressEnum status) {
+        if (orderID == null) {
+            return;
+        }
+        merge(KitchenStatusEvent.builder()
+                .orderId(orderID)
+                .kitchenOrderID(kitchenOrderID)
+                .status(status)
+                .timestamp(LocalDateTime.now(ZoneId.of("Asia/Kolkata")))
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${kitchen.events.coalesce-window-ms:500}")
+    public void flush() {
+        for (Long orderID : pending.keySet()) {
+            KitchenStatusEvent event = pending.remove(orderID);
+            if (event == null) {
+                continue;
+            }
+            kafkaTemplate.send(KITCHEN_TOPIC, orderID.toString(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish {} for order {}, retrying next window: {}",
+                                    event.getStatus(), orderID, ex.getMessage());
+                            merge(event);
+                        }
+                    });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        kafkaTemplate.flush();
+    }
+
+    private void merge(KitchenStatusEvent event) {
+        pending.merge(event.getOrderId(), event,
+                (queued, next) -> next.getStatus().compareTo(queued.getStatus()) >= 0 ? next : queued);
+    }
+}
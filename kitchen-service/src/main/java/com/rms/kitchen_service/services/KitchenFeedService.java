@@ -0,0 +1,200 @@
+package com.rms.kitchen_service.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rms.kitchen_service.config.KitchenStationProperties;
+import com.rms.kitchen_service.dto.KitchenFeedEvent;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.services.Interface.IKitchenFeedService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans kitchen mutations out to connected displays over SSE. Every display has a
+ * bounded buffer keyed by the entity an event is about, so a newer delta for the
+ * same ticket or item replaces the queued one. Buffers are drained on virtual
+ * threads: a slow display only ever delays itself, never the Kafka consumer or a
+ * REST call. If a buffer overflows the oldest deltas are dropped and the display
+ * receives a RESYNC event first.
+ */
+@Slf4j
+@Service
+public class KitchenFeedService implements IKitchenFeedService {
+
+    private final KitchenStationProperties stationProperties;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final Set<FeedClient> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public KitchenFeedService(KitchenStationProperties stationProperties,
+            @Value("${kitchen.feed.buffer-size:256}") int bufferSize,
+            @Value("${kitchen.feed.timeout-ms:1800000}") long timeoutMillis) {
+        this.stationProperties = stationProperties;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public SseEmitter subscribe(String station) {
+        return subscribe(station, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String station, SseEmitter emitter) {
+        FeedClient client = new FeedClient(station, emitter, bufferSize);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        return emitter;
+    }
+
+    @Override
+    public void publish(KitchenFeedEvent event) {
+        for (FeedClient client : clients) {
+            KitchenFeedEvent view = forStation(event, client.station);
+            if (view != null && client.offer(view)) {
+                senders.execute(() -> drain(client));
+            }
+        }
+    }
+
+    private void drain(FeedClient client) {
+        while (true) {
+            List<KitchenFeedEvent> pending = client.poll();
+            if (pending.isEmpty()) {
+                if (client.finishDraining()) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                for (KitchenFeedEvent event : pending) {
+                    client.emitter.send(SseEmitter.event()
+                            .name(event.getType().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping kitchen feed client for station {}: {}", client.station, e.getMessage());
+                clients.remove(client);
+                client.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private KitchenFeedEvent forStation(KitchenFeedEvent event, String station) {
+        if (station == null) {
+            return event;
+        }
+        return switch (event.getType()) {
+            case TICKET_CREATED -> {
+                List<KitchenOrderedItem> items = event.getTicket().getItems().stream()
+                        .filter(item -> station.equals(stationProperties.stationOf(item.getOderedItemID())))
+                        .toList();
+                if (items.isEmpty()) {
+                    yield null;
+                }
+                KitchenOrder ticket = new KitchenOrder();
+                BeanUtils.copyProperties(event.getTicket(), ticket);
+                ticket.setItems(items);
+                yield event.toBuilder().station(station).ticket(ticket).build();
+            }
+            case ITEM_STATUS_CHANGED -> station.equals(event.getStation()) ? event : null;
+            default -> event;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clients.forEach(client -> client.emitter.complete());
+        clients.clear();
+        senders.close();
+    }
+
+    private static final class FeedClient {
+
+        private final String station;
+        private final SseEmitter emitter;
+        private final int capacity;
+
+        private final Map<String, KitchenFeedEvent> buffer = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean draining;
+
+        FeedClient(String station, SseEmitter emitter, int capacity) {
+            this.station = station;
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return true when the caller must start a drain for this client
+         */
+        synchronized boolean offer(KitchenFeedEvent event) {
+            buffer.put(coalesceKey(event), event);
+            if (buffer.size() > capacity) {
+                Iterator<String> eldest = buffer.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                overflowed = true;
+            }
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized List<KitchenFeedEvent> poll() {
+            List<KitchenFeedEvent> pending = new ArrayList<>(buffer.size() + 1);
+            if (overflowed) {
+                pending.add(KitchenFeedEvent.builder()
+                        .type(KitchenFeedEvent.Type.RESYNC)
+                        .station(station)
+                        .timestamp(LocalDateTime.now(ZoneId.of("Asia/Kolkata")))
+                        .build());
+                overflowed = false;
+            }
+            pending.addAll(buffer.values());
+            buffer.clear();
+            return pending;
+        }
+
+        synchronized boolean finishDraining() {
+            if (!buffer.isEmpty() || overflowed) {
+                return false;
+            }
+            draining = false;
+            return true;
+        }
+
+        private static String coalesceKey(KitchenFeedEvent event) {
+            return switch (event.getType()) {
+                case ITEM_STATUS_CHANGED -> "item:" + event.getItemID();
+                case ORDER_STATUS_CHANGED -> "order:" + event.getKitchenOrderID();
+                default -> event.getType() + ":" + event.getKitchenOrderID();
+            };
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.rms.kitchen_service.services;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.rms.kitchen_service.config.KitchenStationProperties;
+import com.rms.kitchen_service.dto.ScheduledItem;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.PriorityEnum;
+import com.rms.kitchen_service.enums.StatusEnum;
+import com.rms.kitchen_service.services.Interface.IKitchenSchedulerService;
+import com.rms.kitchen_service.services.Interface.IPrepTimeEstimator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory queue of PENDING items per station, ordered by the latest time an
+ * item can be started and still meet its ticket's target: {@code createdAt +
+ * target(priority) - prep time}, with prep time learned per menu item by
+ * {@link IPrepTimeEstimator}. Priority, age and prep time therefore share one
+ * key, and a LOW ticket that has waited long enough overtakes a fresh HIGH one.
+ *
+ * <p>Each station is a {@link ConcurrentSkipListSet}, so peek, claim, insert and
+ * removal are O(log n); an id index finds the entry to remove on a status change.
+ * Mongo stays the source of truth and the queues are rebuilt from it on startup.
+ */
+@Slf4j
+@Service
+public class KitchenSchedulerService implements IKitchenSchedulerService {
+
+    private final MongoTemplate mongoTemplate;
+    private final KitchenStationProperties stationProperties;
+    private final Map<PriorityEnum, Duration> targets;
+    private final IPrepTimeEstimator prepTimeEstimator;
+
+    private final Map<String, NavigableSet<ScheduledItem>> queues = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledItem> byItem = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> itemsByOrder = new ConcurrentHashMap<>();
+
+    public KitchenSchedulerService(MongoTemplate mongoTemplate, KitchenStationProperties stationProperties,
+            @Value("${kitchen.scheduling.target-minutes.high:10}") long highTargetMinutes,
+            @Value("${kitchen.scheduling.target-minutes.medium:20}") long mediumTargetMinutes,
+            @Value("${kitchen.scheduling.target-minutes.low:30}") long lowTargetMinutes,
+            IPrepTimeEstimator prepTimeEstimator) {
+        this.mongoTemplate = mongoTemplate;
+        this.stationProperties = stationProperties;
+        this.targets = Map.of(
+                PriorityEnum.HIGH, Duration.ofMinutes(highTargetMinutes),
+                PriorityEnum.MEDIUM, Duration.ofMinutes(mediumTargetMinutes),
+                PriorityEnum.LOW, Duration.ofMinutes(lowTargetMinutes));
+        this.prepTimeEstimator = prepTimeEstimator;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Query active = query(where("status").in(StatusEnum.PENDING, StatusEnum.PREPARING, StatusEnum.READY)
+                .and("items.status").is(StatusEnum.PENDING));
+        active.fields().include("orderID", "priority", "createdAt", "items");
+
+        AtomicLong tickets = new AtomicLong();
+        try (Stream<KitchenOrder> kos = mongoTemplate.stream(active, KitchenOrder.class)) {
+            kos.forEach(ko -> {
+                schedule(ko);
+                tickets.incrementAndGet();
+            });
+        }
+        log.info("Kitchen scheduler rebuilt from {} tickets, {} items queued", tickets.get(), byItem.size());
+    }
+
+    @Override
+    public void schedule(KitchenOrder ko) {
+        for (KitchenOrderedItem item : ko.getItems()) {
+            onItemStatusChanged(ko, item);
+        }
+    }
+
+    @Override
+    public void onItemStatusChanged(KitchenOrder ko, KitchenOrderedItem item) {
+        if (item.getStatus() != StatusEnum.PENDING) {
+            remove(item.getId());
+            return;
+        }
+        ScheduledItem scheduled = toScheduledItem(ko, item);
+        byItem.compute(scheduled.getItemID(), (id, previous) -> {
+            if (previous != null) {
+                queue(previous.getStation()).remove(previous);
+            }
+            queue(scheduled.getStation()).add(scheduled);
+            return scheduled;
+        });
+        itemsByOrder.computeIfAbsent(ko.getId(), id -> ConcurrentHashMap.newKeySet()).add(scheduled.getItemID());
+    }
+
+    @Override
+    public void unschedule(String kitchenOrderID) {
+        Set<String> itemIds = itemsByOrder.remove(kitchenOrderID);
+        if (itemIds != null) {
+            itemIds.forEach(this::remove);
+        }
+    }
+
+    @Override
+    public Optional<ScheduledItem> peekNext(String station) {
+        Iterator<ScheduledItem> head = queue(station).iterator();
+        return head.hasNext() ? Optional.of(head.next()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<ScheduledItem> claimNext(String station) {
+        NavigableSet<ScheduledItem> queue = queue(station);
+        ScheduledItem next;
+        while ((next = queue.pollFirst()) != null) {
+            // lose the race to a concurrent replacement rather than hand out a stale entry
+            if (byItem.remove(next.getItemID(), next)) {
+                Set<String> siblings = itemsByOrder.get(next.getKitchenOrderID());
+                if (siblings != null) {
+                    siblings.remove(next.getItemID());
+                }
+                return Optional.of(next);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Map<String, Integer> queueDepths() {
+        Map<String, Integer> depths = new TreeMap<>();
+        queues.forEach((station, queue) -> depths.put(station, queue.size()));
+        return depths;
+    }
+
+    private void remove(String itemId) {
+        byItem.computeIfPresent(itemId, (id, previous) -> {
+            queue(previous.getStation()).remove(previous);
+            return null;
+        });
+    }
+
+    private NavigableSet<ScheduledItem> queue(String station) {
+        return queues.computeIfAbsent(station, s -> new ConcurrentSkipListSet<>(ScheduledItem.QUEUE_ORDER));
+    }
+
+    private ScheduledItem toScheduledItem(KitchenOrder ko, KitchenOrderedItem item) {
+        PriorityEnum priority = ko.getPriority() != null ? ko.getPriority() : PriorityEnum.MEDIUM;
+        Duration prepTime = prepTimeEstimator.expectedPrepTime(item.getOderedItemID());
+        // tickets written before createdAt was enforced are treated as arriving now
+        LocalDateTime createdAt = ko.getCreatedAt() != null ? ko.getCreatedAt() : LocalDateTime.now(ZoneId.of("Asia/Kolkata"));
+        return ScheduledItem.builder()
+                .itemID(item.getId())
+                .kitchenOrderID(ko.getId())
+                .orderID(ko.getOrderID())
+                .menuItemId(item.getOderedItemID())
+                .orderedItemName(item.getOrderedItemName())
+                .quantity(item.getQuantity())
+                .station(stationProperties.stationOf(item.getOderedItemID()))
+                .priority(priority)
+                .createdAt(createdAt)
+                .estimatedPrepSeconds(prepTime.toSeconds())
+                .startBy(createdAt.plus(targets.get(priority)).minus(prepTime))
+                .build();
+    }
+}
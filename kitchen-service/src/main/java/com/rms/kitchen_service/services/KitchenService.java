@@ -1,20 +1,51 @@
 package com.rms.kitchen_service.services;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.rms.kitchen_service.config.KitchenStationProperties;
+import com.rms.kitchen_service.dto.KitchenFeedEvent;
+import com.rms.kitchen_service.dto.KitchenOrderEta;
 import com.rms.kitchen_service.dto.KitchenOrderRequest;
-import com.rms.kitchen_service.dto.KitchenOrderedItemRequest;
+import com.rms.kitchen_service.dto.KitchenTicketPage;
 import com.rms.kitchen_service.entity.KitchenOrder;
 import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.OrderProgressEnum;
+import com.rms.kitchen_service.enums.PriorityEnum;
 import com.rms.kitchen_service.enums.StatusEnum;
+import com.rms.kitchen_service.exception.InvalidCursorException;
 import com.rms.kitchen_service.mapper.KitchenOrderRequestToKitchenOrderMapper;
-import com.rms.kitchen_service.mapper.KitchenOrderedItemRequestToKitchenOrderedItemMapper;
+import com.rms.kitchen_service.mapper.KitchenOrderToKitchenTicketCardMapper;
 import com.rms.kitchen_service.repo.KitchenOrderRepo;
-import com.rms.kitchen_service.repo.KitchenOrderedItemRepo;
+import com.rms.kitchen_service.services.Interface.IKitchenEventPublisher;
+import com.rms.kitchen_service.services.Interface.IKitchenFeedService;
+import com.rms.kitchen_service.services.Interface.IKitchenSchedulerService;
 import com.rms.kitchen_service.services.Interface.IKitchenService;
+import com.rms.kitchen_service.services.Interface.IPrepTimeEstimator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,68 +53,183 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class KitchenService implements IKitchenService{
 
+    private static final Set<StatusEnum> ACTIVE_STATUSES =
+            EnumSet.complementOf(EnumSet.of(StatusEnum.SERVED, StatusEnum.CANCELLED));
+
+    private static final int MAX_TICKET_PAGE_SIZE = 200;
+
+    private static final String CURSOR_SEPARATOR = "|";
+
     @Autowired
     private final KitchenOrderRepo kitchenOrderRepo;
 
-    @Autowired
-    private final KitchenOrderedItemRepo kitchenOrderedItemRepo;
+    private final MongoTemplate mongoTemplate;
+
+    private final IKitchenFeedService kitchenFeedService;
+
+    private final IKitchenSchedulerService kitchenSchedulerService;
+
+    private final IKitchenEventPublisher kitchenEventPublisher;
+
+    private final IPrepTimeEstimator prepTimeEstimator;
+
+    private final KitchenStationProperties stationProperties;
 
     @Override
     public String saveKitchenOrder(KitchenOrderRequest kor) {
         
-        KitchenOrder ko = KitchenOrderRequestToKitchenOrderMapper.mapper(kor);
-        return kitchenOrderRepo.save(ko).getId();
+        List<String> created = saveKitchenOrders(List.of(kor));
+        if (!created.isEmpty()) {
+            return created.get(0);
+        }
+        Query existing = query(where("orderID").is(kor.getOrderID()));
+        existing.fields().include("_id");
+        return mongoTemplate.findOne(existing, KitchenOrder.class).getId();
     }
 
     @Override
-    public void saveKitchenOrderedItem(List<KitchenOrderedItemRequest> koir) {
-        List<KitchenOrderedItem> kois = KitchenOrderedItemRequestToKitchenOrderedItemMapper.mapper(koir);
+    public List<String> saveKitchenOrders(List<KitchenOrderRequest> kors) {
+        if (kors.isEmpty()) {
+            return List.of();
+        }
+        List<KitchenOrder> kos = kors.stream()
+                .map(KitchenOrderRequestToKitchenOrderMapper::mapper)
+                .map(this::assignIds)
+                .collect(Collectors.toList());
+
+        // upsert on the unique orderID: an existing ticket is left untouched, so
+        // redelivered or repeated events cost a match instead of a duplicate ticket
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, KitchenOrder.class);
+        for (KitchenOrder ko : kos) {
+            bulk.upsert(query(where("orderID").is(ko.getOrderID())), insertOnly(ko));
+        }
+        BulkWriteResult result = bulk.execute();
+
+        List<KitchenOrder> created = result.getUpserts().stream()
+                .map(upsert -> kos.get(upsert.getIndex()))
+                .collect(Collectors.toList());
+        created.forEach(this::onTicketCreated);
+        return created.stream().map(KitchenOrder::getId).collect(Collectors.toList());
+    }
 
-        kitchenOrderedItemRepo.saveAll(kois);
+    @Override
+    public boolean cancelKitchenOrder(Long orderID) {
+        return setOrderStatus(query(where("orderID").is(orderID)
+                .and("status").nin(StatusEnum.SERVED, StatusEnum.CANCELLED)), StatusEnum.CANCELLED);
+    }
+
+    @Override
+    public boolean serveKitchenOrder(Long orderID) {
+        return setOrderStatus(query(where("orderID").is(orderID)
+                .and("status").nin(StatusEnum.SERVED, StatusEnum.CANCELLED)), StatusEnum.SERVED);
     }
 
     @Override
     public boolean updateItemStatus(String id, StatusEnum status) {
-        KitchenOrderedItem koi = kitchenOrderedItemRepo.findById(id)
-                .orElseThrow(() -> new RuntimeException("Item with ID " + id + " not found"));
+        // positional update of the matching embedded item; only that item is returned,
+        // along with the ticket fields the scheduler orders by. It matches only while the
+        // item is in another status, so a repeated update keeps its timestamps and is not
+        // recorded, scheduled or announced again
+        Query item = query(where("items").elemMatch(where("_id").is(id).and("status").ne(status)));
+        item.fields().include("orderID", "priority", "createdAt").position("items", 1);
+        Update update = new Update().set("items.$.status", status);
+        if (status == StatusEnum.PREPARING) {
+            update.set("items.$.preparingAt", now());
+        } else if (status == StatusEnum.READY) {
+            update.set("items.$.readyAt", now());
+        }
+        KitchenOrder ko = mongoTemplate.findAndModify(item, update,
+                FindAndModifyOptions.options().returnNew(true),
+                KitchenOrder.class);
 
-        koi.setStatus(status);
-        return kitchenOrderedItemRepo.save(koi) != null;
+        if (ko == null) {
+            if (mongoTemplate.exists(query(where("items._id").is(id)), KitchenOrder.class)) {
+                return true;
+            }
+            throw new RuntimeException("Item with ID " + id + " not found");
+        }
+        kitchenSchedulerService.onItemStatusChanged(ko, ko.getItems().get(0));
+        prepTimeEstimator.onItemStatusChanged(ko.getItems().get(0));
+        if (status == StatusEnum.PREPARING) {
+            kitchenEventPublisher.orderProgressed(ko.getOrderID(), ko.getId(), OrderProgressEnum.PREPARING);
+        }
+        kitchenFeedService.publish(KitchenFeedEvent.builder()
+                .type(KitchenFeedEvent.Type.ITEM_STATUS_CHANGED)
+                .kitchenOrderID(ko.getId())
+                .itemID(id)
+                .station(stationProperties.stationOf(ko.getItems().get(0).getOderedItemID()))
+                .status(status)
+                .timestamp(now())
+                .build());
+        return true;
     }
 
     @Override
     public List<KitchenOrderedItem> getKitchenOrderStatus(String id) {
-        return kitchenOrderedItemRepo.findByKitchenOrderID(id);
+        return kitchenOrderRepo.findById(id)
+                .map(KitchenOrder::getItems)
+                .orElse(List.of());
     }
 
     @Override
     public boolean updateKitchenOrderStatus(String id, StatusEnum status) {
 
-        long count = kitchenOrderedItemRepo.countByKitchenOrderID(id);
+        // readiness is checked and applied by the server in one conditional update:
+        // it only matches while no embedded item is in any other status, so an item
+        // changing concurrently either lands before (and blocks) or after the promotion;
+        // an order already READY_TO_SERVE is not matched again, so repeats emit nothing
+        Query ready = query(where("_id").is(id)
+                .and("status").nin(StatusEnum.READY_TO_SERVE, StatusEnum.SERVED, StatusEnum.CANCELLED)
+                .and("items").not().elemMatch(where("status").ne(status)));
 
-        long count2 = kitchenOrderedItemRepo.countByKitchenOrderIDAndStatus(id, status);
-        
-        if(count == count2){
-            KitchenOrder ko = kitchenOrderRepo.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Order with ID " + id + " not found"));
-            ko.setStatus(StatusEnum.READY_TO_SERVE);
-            return kitchenOrderRepo.save(ko)!= null;
+        if (setOrderStatus(ready, StatusEnum.READY_TO_SERVE)) {
+            return true;
+        }
+        if (mongoTemplate.exists(query(where("_id").is(id).and("status").is(StatusEnum.READY_TO_SERVE)), KitchenOrder.class)) {
+            return true;
+        }
+        if (!mongoTemplate.exists(query(where("_id").is(id)), KitchenOrder.class)) {
+            throw new RuntimeException("Order with ID " + id + " not found");
         }
         return false;
     }
 
     @Override
     public boolean completeOrder(String id) {
-        KitchenOrder ko = kitchenOrderRepo.findById(id)
-                .orElseThrow(() -> new RuntimeException("Order with ID " + id + " not found"));
-        if(ko.getStatus() == StatusEnum.READY_TO_SERVE)
-        {
-            ko.setStatus(StatusEnum.SERVED);
-            return kitchenOrderRepo.save(ko) != null;
-        }
-        else{
-            return false;
+        if (setOrderStatus(query(where("_id").is(id).and("status").is(StatusEnum.READY_TO_SERVE)), StatusEnum.SERVED)) {
+            return true;
+        }
+        if (!mongoTemplate.exists(query(where("_id").is(id)), KitchenOrder.class)) {
+            throw new RuntimeException("Order with ID " + id + " not found");
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateOrderPriority(String id, PriorityEnum priority) {
+        Query ticket = query(where("_id").is(id));
+        ticket.fields().include("orderID", "priority", "createdAt", "items");
+        KitchenOrder ko = mongoTemplate.findAndModify(ticket,
+                new Update().set("priority", priority).set("updatedAt", now()),
+                FindAndModifyOptions.options().returnNew(true),
+                KitchenOrder.class);
+
+        if (ko == null) {
+            throw new RuntimeException("Order with ID " + id + " not found");
+        }
+        kitchenSchedulerService.schedule(ko);
+        return true;
+    }
+
+    @Override
+    public KitchenOrderEta getOrderEta(String id) {
+        Query ticket = query(where("_id").is(id));
+        ticket.fields().include("orderID", "status", "items.oderedItemID", "items.status", "items.preparingAt");
+        KitchenOrder ko = mongoTemplate.findOne(ticket, KitchenOrder.class);
+        if (ko == null) {
+            throw new RuntimeException("Order with ID " + id + " not found");
         }
+        return prepTimeEstimator.estimate(ko, now());
     }
 
     @Override
@@ -91,4 +237,130 @@ public class KitchenService implements IKitchenService{
         return kitchenOrderRepo.findAll();
     }
 
+    @Override
+    public KitchenTicketPage getActiveTickets(List<StatusEnum> statuses, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_TICKET_PAGE_SIZE);
+
+        Set<StatusEnum> wanted = EnumSet.copyOf(ACTIVE_STATUSES);
+        if (statuses != null && !statuses.isEmpty()) {
+            wanted.retainAll(statuses);
+        }
+        Criteria criteria = where("status").in(wanted);
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+            criteria.orOperator(
+                    where("createdAt").gt(createdAt),
+                    where("createdAt").is(createdAt).and("_id").gt(new ObjectId(position[1])));
+        }
+
+        // fetch one extra ticket to learn whether another page exists without a count
+        Query page = query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "createdAt", "_id"))
+                .limit(pageSize + 1);
+        page.fields().include("orderID", "status", "priority", "specialInstructions", "createdAt",
+                "items._id", "items.orderedItemName", "items.quantity", "items.status", "items.specialRequests");
+
+        List<KitchenOrder> kos = mongoTemplate.find(page, KitchenOrder.class);
+        boolean hasNext = kos.size() > pageSize;
+        if (hasNext) {
+            kos = kos.subList(0, pageSize);
+        }
+        return KitchenTicketPage.builder()
+                .tickets(kos.stream()
+                        .map(KitchenOrderToKitchenTicketCardMapper::mapper)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? encodeCursor(kos.get(kos.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static String encodeCursor(KitchenOrder ko) {
+        String position = ko.getCreatedAt() + CURSOR_SEPARATOR + ko.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + cursor);
+            }
+            String[] parts = { position.substring(0, separator), position.substring(separator + 1) };
+            // Validate both components before they reach the query
+            LocalDateTime.parse(parts[0]);
+            if (!ObjectId.isValid(parts[1])) {
+                throw new InvalidCursorException("Malformed cursor: " + cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor, e);
+        }
+    }
+
+    // $set only the status so a concurrent item update on the same document is not overwritten;
+    // findAndModify keeps it one round trip while telling us which order changed
+    private boolean setOrderStatus(Query query, StatusEnum status) {
+        query.fields().include("_id", "orderID");
+        KitchenOrder ko = mongoTemplate.findAndModify(
+                query,
+                new Update().set("status", status).set("updatedAt", now()),
+                KitchenOrder.class);
+        if (ko == null) {
+            return false;
+        }
+        kitchenSchedulerService.unschedule(ko.getId());
+        if (status == StatusEnum.READY_TO_SERVE) {
+            kitchenEventPublisher.orderProgressed(ko.getOrderID(), ko.getId(), OrderProgressEnum.READY);
+        } else if (status == StatusEnum.SERVED) {
+            kitchenEventPublisher.orderProgressed(ko.getOrderID(), ko.getId(), OrderProgressEnum.DELIVERED);
+        }
+        kitchenFeedService.publish(KitchenFeedEvent.builder()
+                .type(KitchenFeedEvent.Type.ORDER_STATUS_CHANGED)
+                .kitchenOrderID(ko.getId())
+                .status(status)
+                .timestamp(now())
+                .build());
+        return true;
+    }
+
+    private void onTicketCreated(KitchenOrder ko) {
+        kitchenSchedulerService.schedule(ko);
+        kitchenFeedService.publish(KitchenFeedEvent.builder()
+                .type(KitchenFeedEvent.Type.TICKET_CREATED)
+                .kitchenOrderID(ko.getId())
+                .status(ko.getStatus())
+                .ticket(ko)
+                .timestamp(now())
+                .build());
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Kolkata"));
+    }
+
+    private Update insertOnly(KitchenOrder ko) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(ko, document);
+        Update update = new Update();
+        document.forEach((field, value) -> {
+            if (!"orderID".equals(field)) {
+                update.setOnInsert(field, value);
+            }
+        });
+        return update;
+    }
+
+    // ids are assigned up front so embedded items carry their order id and can be
+    // addressed individually by updateItemStatus
+    private KitchenOrder assignIds(KitchenOrder ko) {
+        ko.setId(new ObjectId().toHexString());
+        for (KitchenOrderedItem item : ko.getItems()) {
+            item.setId(new ObjectId().toHexString());
+            item.setKitchenOrderID(ko.getId());
+        }
+        return ko;
+    }
+
 }
@@ -0,0 +1,158 @@
+package com.rms.kitchen_service.services;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.rms.kitchen_service.dto.KitchenOrderEta;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.StatusEnum;
+import com.rms.kitchen_service.services.Interface.IPrepTimeEstimator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-menu-item prep times learned from PREPARING to READY transitions. Each item
+ * keeps a {@link PrepTimeStats} (EWMA plus quantile histogram) in memory, so an
+ * estimate is a few map lookups and never touches Mongo. Statistics are warmed
+ * from recent tickets on startup and then updated as items become READY.
+ */
+@Slf4j
+@Service
+public class PrepTimeEstimator implements IPrepTimeEstimator {
+
+    private static final double LATEST_QUANTILE = 0.9;
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration defaultPrepTime;
+    private final double alpha;
+    private final long minSamples;
+    private final long warmupDays;
+
+    private final Map<Long, PrepTimeStats> stats = new ConcurrentHashMap<>();
+
+    public PrepTimeEstimator(MongoTemplate mongoTemplate,
+            @Value("${kitchen.scheduling.default-prep-seconds:480}") long defaultPrepSeconds,
+            @Value("${kitchen.estimator.ewma-alpha:0.2}") double alpha,
+            @Value("${kitchen.estimator.min-samples:5}") long minSamples,
+            @Value("${kitchen.estimator.warmup-days:7}") long warmupDays) {
+        this.mongoTemplate = mongoTemplate;
+        this.defaultPrepTime = Duration.ofSeconds(defaultPrepSeconds);
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.warmupDays = warmupDays;
+    }
+
+    // before the scheduler rebuilds its queues, so they start with learned prep times
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (warmupDays <= 0) {
+            return;
+        }
+        Query recent = query(where("createdAt").gte(now().minusDays(warmupDays))
+                .and("items.readyAt").exists(true))
+                .with(Sort.by("createdAt"));
+        recent.fields().include("items.oderedItemID", "items.status", "items.preparingAt", "items.readyAt");
+
+        AtomicLong samples = new AtomicLong();
+        try (Stream<KitchenOrder> kos = mongoTemplate.stream(recent, KitchenOrder.class)) {
+            kos.forEach(ko -> ko.getItems().forEach(item -> {
+                if (record(item)) {
+                    samples.incrementAndGet();
+                }
+            }));
+        }
+        log.info("Prep-time estimator warmed with {} samples for {} menu items", samples.get(), stats.size());
+    }
+
+    @Override
+    public void onItemStatusChanged(KitchenOrderedItem item) {
+        if (item.getStatus() == StatusEnum.READY) {
+            record(item);
+        }
+    }
+
+    @Override
+    public Duration expectedPrepTime(Long menuItemId) {
+        PrepTimeStats itemStats = trusted(menuItemId);
+        return itemStats != null ? Duration.ofSeconds(Math.round(itemStats.ewma())) : defaultPrepTime;
+    }
+
+    @Override
+    public KitchenOrderEta estimate(KitchenOrder ko, LocalDateTime now) {
+        long expected = 0;
+        long latest = 0;
+        boolean fromHistory = true;
+
+        if (ko.getStatus() != StatusEnum.READY_TO_SERVE && ko.getStatus() != StatusEnum.SERVED
+                && ko.getStatus() != StatusEnum.CANCELLED) {
+            // items are prepared in parallel, so the ticket is ready when its slowest item is
+            for (KitchenOrderedItem item : ko.getItems()) {
+                if (item.getStatus() != StatusEnum.PENDING && item.getStatus() != StatusEnum.PREPARING) {
+                    continue;
+                }
+                PrepTimeStats itemStats = trusted(item.getOderedItemID());
+                long itemExpected = itemStats != null ? Math.round(itemStats.ewma()) : defaultPrepTime.toSeconds();
+                long itemLatest = itemStats != null ? Math.round(itemStats.quantile(LATEST_QUANTILE)) : itemExpected;
+                fromHistory &= itemStats != null;
+
+                long elapsed = 0;
+                if (item.getStatus() == StatusEnum.PREPARING && item.getPreparingAt() != null) {
+                    elapsed = Math.max(0, Duration.between(item.getPreparingAt(), now).toSeconds());
+                }
+                expected = Math.max(expected, Math.max(0, itemExpected - elapsed));
+                latest = Math.max(latest, Math.max(0, itemLatest - elapsed));
+            }
+        }
+
+        return KitchenOrderEta.builder()
+                .kitchenOrderID(ko.getId())
+                .orderID(ko.getOrderID())
+                .status(ko.getStatus())
+                .expectedReadyAt(now.plusSeconds(expected))
+                .latestReadyAt(now.plusSeconds(Math.max(latest, expected)))
+                .remainingSeconds(expected)
+                .fromHistory(fromHistory)
+                .calculatedAt(now)
+                .build();
+    }
+
+    private boolean record(KitchenOrderedItem item) {
+        if (item.getOderedItemID() == null || item.getPreparingAt() == null || item.getReadyAt() == null) {
+            return false;
+        }
+        long seconds = Duration.between(item.getPreparingAt(), item.getReadyAt()).toSeconds();
+        if (seconds < 0) {
+            return false;
+        }
+        stats.computeIfAbsent(item.getOderedItemID(), id -> new PrepTimeStats(alpha)).record(seconds);
+        return true;
+    }
+
+    private PrepTimeStats trusted(Long menuItemId) {
+        PrepTimeStats itemStats = menuItemId != null ? stats.get(menuItemId) : null;
+        return itemStats != null && itemStats.samples() >= minSamples ? itemStats : null;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Kolkata"));
+    }
+}
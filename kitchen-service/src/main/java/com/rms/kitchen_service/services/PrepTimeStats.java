@@ -0,0 +1,89 @@
+package com.rms.kitchen_service.services;
+
+/**
+ * Streaming prep-time statistics for one menu item: an EWMA for the expected
+ * time and a log-bucketed histogram for quantiles. Bucket {@code i} covers
+ * {@code (GAMMA^(i-1), GAMMA^i]} seconds, so any quantile is within
+ * {@link #RELATIVE_ACCURACY} of the true sample and memory is a fixed
+ * {@value #BUCKETS} doubles however many samples arrive. Once the total weight
+ * passes {@link #MAX_WEIGHT} every bucket is halved, which keeps the histogram
+ * following the kitchen as it speeds up or slows down.
+ */
+final class PrepTimeStats {
+
+    static final double RELATIVE_ACCURACY = 0.02;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // GAMMA^BUCKETS is e^10.24 s, roughly 7.8 hours; longer samples land in the last bucket
+    private static final int BUCKETS = 256;
+
+    private static final double MAX_WEIGHT = 2_000;
+
+    private final double alpha;
+
+    private final double[] buckets = new double[BUCKETS];
+
+    private double weight;
+
+    private double ewma;
+
+    private long samples;
+
+    PrepTimeStats(double alpha) {
+        this.alpha = alpha;
+    }
+
+    synchronized void record(double seconds) {
+        double value = Math.max(seconds, 1);
+        ewma = samples == 0 ? value : ewma + alpha * (value - ewma);
+        samples++;
+
+        buckets[index(value)]++;
+        weight++;
+        if (weight > MAX_WEIGHT) {
+            weight = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] /= 2;
+                weight += buckets[i];
+            }
+        }
+    }
+
+    synchronized long samples() {
+        return samples;
+    }
+
+    synchronized double ewma() {
+        return ewma;
+    }
+
+    /**
+     * @param q quantile in [0, 1]
+     * @return estimated seconds at that quantile, 0 when nothing was recorded
+     */
+    synchronized double quantile(double q) {
+        if (weight == 0) {
+            return 0;
+        }
+        double rank = q * weight;
+        double seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank && buckets[i] > 0) {
+                return value(i);
+            }
+        }
+        return value(BUCKETS - 1);
+    }
+
+    private static int index(double seconds) {
+        return Math.min((int) Math.ceil(Math.log(seconds) / LOG_GAMMA), BUCKETS - 1);
+    }
+
+    // midpoint of the bucket's range, within RELATIVE_ACCURACY of any value in it
+    private static double value(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
@@ -0,0 +1,165 @@
+package com.rms.kitchen_service.consumers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import com.rms.kitchen_service.dto.OrderMessageIncomming;
+import com.rms.kitchen_service.handlers.IMessageHandler;
+import com.rms.kitchen_service.serialization.OrderMessageDeserializer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Order-events throughput of {@link OderEventMessageConsumer} for different
+ * consumer-concurrency / key-shard settings against an embedded broker. Each
+ * handler call sleeps to stand in for a Mongo bulk write, and every order carries
+ * several events whose sequence is checked on arrival. Because the write is a
+ * sleep, the figures only show how much write latency the settings overlap, not
+ * how CPU-bound handling scales with cores. Not part of the regular test run;
+ * execute with {@code mvn test -Dtest=OrderEventConsumerLoadBenchmark}.
+ */
+class OrderEventConsumerLoadBenchmark {
+
+    private static final String TOPIC = "order-events-load";
+    private static final int PARTITIONS = 8;
+    private static final int ORDERS = 4_000;
+    private static final int EVENTS_PER_ORDER = 3;
+    private static final long WRITE_MILLIS = 4;
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        DefaultKafkaProducerFactory<String, OrderMessageIncomming> factory = new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(), new JsonSerializer<>());
+        KafkaTemplate<String, OrderMessageIncomming> template = new KafkaTemplate<>(factory);
+        for (int seq = 0; seq < EVENTS_PER_ORDER; seq++) {
+            for (long orderId = 1; orderId <= ORDERS; orderId++) {
+                OrderMessageIncomming event = OrderMessageIncomming.builder()
+                        .orderId(orderId)
+                        .eventType(Integer.toString(seq))
+                        .orderItems(List.of())
+                        .build();
+                template.send(TOPIC, Long.toString(orderId), event);
+            }
+        }
+        template.flush();
+        factory.destroy();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void throughputWithOverlappingWrites() throws Exception {
+        int[][] settings = { { 1, 1 }, { 2, 1 }, { 4, 1 }, { 8, 1 }, { 1, 4 }, { 4, 4 } };
+        run(2, 2); // warm-up
+
+        System.out.printf("%ncores=%d, partitions=%d, simulated write=%d ms (sleep: latency overlap only)%n",
+                Runtime.getRuntime().availableProcessors(), PARTITIONS, WRITE_MILLIS);
+        System.out.printf("%-12s %-10s %12s%n", "concurrency", "keyShards", "events/sec");
+        for (int[] setting : settings) {
+            double eventsPerSecond = run(setting[0], setting[1]);
+            System.out.printf("%-12d %-10d %12.0f%n", setting[0], setting[1], eventsPerSecond);
+        }
+    }
+
+    private double run(int concurrency, int keyShards) throws Exception {
+        int total = ORDERS * EVENTS_PER_ORDER;
+        CountDownLatch done = new CountDownLatch(total);
+        Map<Long, Integer> lastSeq = new ConcurrentHashMap<>();
+        AtomicInteger outOfOrder = new AtomicInteger();
+
+        IMessageHandler handler = new IMessageHandler() {
+            @Override
+            public void messageProcess(OrderMessageIncomming orderMessage) {
+                messageProcess(List.of(orderMessage));
+            }
+
+            @Override
+            public void messageProcess(List<OrderMessageIncomming> orderMessages) {
+                try {
+                    Thread.sleep(WRITE_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (OrderMessageIncomming message : orderMessages) {
+                    int seq = Integer.parseInt(message.getEventType());
+                    Integer previous = lastSeq.put(message.getOrderId(), seq);
+                    if (previous != null && previous >= seq) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    done.countDown();
+                }
+            }
+        };
+        OderEventMessageConsumer consumer = new OderEventMessageConsumer(handler, new SimpleMeterRegistry(),
+                keyShards);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "kitchen-load-" + UUID.randomUUID());
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderMessageIncomming.class.getName());
+        OrderMessageDeserializer valueDeserializer = new OrderMessageDeserializer();
+        valueDeserializer.configure(config, false);
+
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setMessageListener(
+                (BatchMessageListener<String, OrderMessageIncomming>) consumer::consume);
+        ConcurrentMessageListenerContainer<String, OrderMessageIncomming> container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), valueDeserializer),
+                containerProperties);
+        container.setConcurrency(concurrency);
+
+        long start = System.nanoTime();
+        container.start();
+        try {
+            assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+            long elapsed = System.nanoTime() - start;
+            assertThat(outOfOrder.get()).isZero();
+            return total / (elapsed / 1e9);
+        } finally {
+            container.stop();
+            consumer.shutdown();
+        }
+    }
+}
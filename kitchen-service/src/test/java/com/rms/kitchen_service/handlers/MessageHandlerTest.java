@@ -0,0 +1,111 @@
+package com.rms.kitchen_service.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.rms.kitchen_service.dto.KitchenOrderRequest;
+import com.rms.kitchen_service.dto.OrderMessageIncomming;
+import com.rms.kitchen_service.services.Interface.IKitchenService;
+
+@ExtendWith(MockitoExtension.class)
+class MessageHandlerTest {
+
+    private static final LocalDateTime PLACED_AT = LocalDateTime.of(2025, 1, 31, 19, 0);
+
+    @Mock
+    private IKitchenService kitchenService;
+
+    @InjectMocks
+    private MessageHandler messageHandler;
+
+    @Captor
+    private ArgumentCaptor<List<KitchenOrderRequest>> tickets;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(messageHandler, "processedEvents", new ProcessedEventCache(100));
+    }
+
+    @Test
+    void onlyPlacementEventsCreateTickets() {
+        messageHandler.messageProcess(List.of(
+                event(1L, "ORDER_PLACED", "PENDING", PLACED_AT),
+                event(1L, "PAYMENT_STATUS_CHANGED", "PENDING", PLACED_AT.plusSeconds(5)),
+                event(1L, "ORDER_STATUS_CHANGED", "CONFIRMED", PLACED_AT.plusSeconds(6)),
+                event(2L, "ORDER_CANCELLED", "CANCELLED", PLACED_AT.plusSeconds(7)),
+                event(3L, "ORDER_STATUS_CHANGED", "DELIVERED", PLACED_AT.plusSeconds(8))));
+
+        verify(kitchenService).saveKitchenOrders(tickets.capture());
+        assertThat(tickets.getValue()).extracting(KitchenOrderRequest::getOrderID).containsExactly(1L);
+        verify(kitchenService).cancelKitchenOrder(2L);
+        verify(kitchenService).serveKitchenOrder(3L);
+        verify(kitchenService, never()).cancelKitchenOrder(1L);
+    }
+
+    @Test
+    void paymentFailureCancelClosesTheTicket() {
+        messageHandler.messageProcess(List.of(
+                event(1L, "ORDER_PLACED", "PENDING", PLACED_AT),
+                event(1L, "PAYMENT_STATUS_CHANGED", "CANCELLED", PLACED_AT.plusSeconds(5))));
+
+        verify(kitchenService).saveKitchenOrders(tickets.capture());
+        assertThat(tickets.getValue()).extracting(KitchenOrderRequest::getOrderID).containsExactly(1L);
+        verify(kitchenService).cancelKitchenOrder(1L);
+    }
+
+    @Test
+    void redeliveredEventsAreSkipped() {
+        OrderMessageIncomming placed = event(1L, "ORDER_PLACED", "PENDING", PLACED_AT);
+
+        messageHandler.messageProcess(List.of(placed, placed));
+        messageHandler.messageProcess(List.of(placed));
+
+        verify(kitchenService).saveKitchenOrders(tickets.capture());
+        assertThat(tickets.getValue()).hasSize(1);
+    }
+
+    @Test
+    void failedBatchIsNotMarkedProcessed() {
+        OrderMessageIncomming placed = event(1L, "ORDER_PLACED", "PENDING", PLACED_AT);
+        when(kitchenService.saveKitchenOrders(anyList()))
+                .thenThrow(new IllegalStateException("mongo down"))
+                .thenReturn(List.of("ticket-1"));
+
+        try {
+            messageHandler.messageProcess(List.of(placed));
+        } catch (IllegalStateException expected) {
+            // batch is redelivered by the container
+        }
+        messageHandler.messageProcess(List.of(placed));
+
+        verify(kitchenService, times(2)).saveKitchenOrders(anyList());
+    }
+
+    private static OrderMessageIncomming event(Long orderId, String eventType, String status, LocalDateTime timestamp) {
+        return OrderMessageIncomming.builder()
+                .orderId(orderId)
+                .eventType(eventType)
+                .status(status)
+                .paymentStatus("PENDING")
+                .timestamp(timestamp)
+                .orderItems(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.rms.kitchen_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.rms.kitchen_service.dto.KitchenStatusEvent;
+import com.rms.kitchen_service.enums.OrderProgressEnum;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private KitchenEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new KitchenEventPublisher(kafkaTemplate);
+    }
+
+    @Test
+    void changesWithinAWindowAreSentAsOneEventWithTheLatestState() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher.orderProgressed(1L, "ticket-1", OrderProgressEnum.PREPARING);
+        publisher.orderProgressed(1L, "ticket-1", OrderProgressEnum.PREPARING);
+        publisher.orderProgressed(1L, "ticket-1", OrderProgressEnum.READY);
+        // a late PREPARING (another item) does not move the order back
+        publisher.orderProgressed(1L, "ticket-1", OrderProgressEnum.PREPARING);
+        publisher.flush();
+
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(1)).send(eq("kitchen-events"), eq("1"), event.capture());
+        assertThat(((KitchenStatusEvent) event.getValue()).getStatus()).isEqualTo(OrderProgressEnum.READY);
+    }
+
+    @Test
+    void failedSendIsRetriedInTheNextWindow() {
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher.orderProgressed(2L, "ticket-2", OrderProgressEnum.READY);
+        publisher.flush();
+        publisher.flush();
+
+        verify(kafkaTemplate, times(2)).send(eq("kitchen-events"), eq("2"), any());
+    }
+}
@@ -0,0 +1,158 @@
+package com.rms.kitchen_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rms.kitchen_service.config.KitchenStationProperties;
+import com.rms.kitchen_service.dto.KitchenFeedEvent;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+class KitchenFeedServiceTest {
+
+    private KitchenFeedService feedService;
+
+    @AfterEach
+    void tearDown() {
+        feedService.shutdown();
+    }
+
+    @Test
+    void stationOnlyReceivesItsItems() throws Exception {
+        feedService = new KitchenFeedService(stations(), 16, 60_000);
+        RecordingEmitter grill = new RecordingEmitter(null);
+        feedService.subscribe("grill", grill);
+
+        feedService.publish(ticket("order-1", 1L, 2L));
+        feedService.publish(itemChanged("item-2", "main", StatusEnum.PREPARING));
+        feedService.publish(itemChanged("item-1", "grill", StatusEnum.PREPARING));
+
+        List<KitchenFeedEvent> received = grill.awaitEvents(2);
+        assertThat(received.get(0).getTicket().getItems())
+                .extracting(KitchenOrderedItem::getOderedItemID)
+                .containsExactly(1L);
+        assertThat(received.get(1).getItemID()).isEqualTo("item-1");
+    }
+
+    @Test
+    void slowDisplayGetsCoalescedUpdates() throws Exception {
+        feedService = new KitchenFeedService(stations(), 16, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        feedService.subscribe(null, slow);
+
+        feedService.publish(itemChanged("item-1", "grill", StatusEnum.PENDING));
+        slow.awaitSendStarted();
+        for (StatusEnum status : List.of(StatusEnum.PREPARING, StatusEnum.READY, StatusEnum.PREPARING, StatusEnum.READY)) {
+            feedService.publish(itemChanged("item-1", "grill", status));
+        }
+        release.countDown();
+
+        List<KitchenFeedEvent> received = slow.awaitEvents(2);
+        assertThat(received).extracting(KitchenFeedEvent::getStatus)
+                .containsExactly(StatusEnum.PENDING, StatusEnum.READY);
+    }
+
+    @Test
+    void overflowDropsOldestAndRequestsResync() throws Exception {
+        feedService = new KitchenFeedService(stations(), 2, 60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        feedService.subscribe(null, slow);
+
+        feedService.publish(itemChanged("item-0", "main", StatusEnum.READY));
+        slow.awaitSendStarted();
+        for (int i = 1; i <= 5; i++) {
+            feedService.publish(itemChanged("item-" + i, "main", StatusEnum.READY));
+        }
+        release.countDown();
+
+        List<KitchenFeedEvent> received = slow.awaitEvents(4);
+        assertThat(received).extracting(KitchenFeedEvent::getType).containsExactly(
+                KitchenFeedEvent.Type.ITEM_STATUS_CHANGED, KitchenFeedEvent.Type.RESYNC,
+                KitchenFeedEvent.Type.ITEM_STATUS_CHANGED, KitchenFeedEvent.Type.ITEM_STATUS_CHANGED);
+        assertThat(received.subList(2, 4)).extracting(KitchenFeedEvent::getItemID)
+                .containsExactly("item-4", "item-5");
+    }
+
+    private static KitchenStationProperties stations() {
+        KitchenStationProperties properties = new KitchenStationProperties();
+        properties.setStations(Map.of("grill", List.of(1L)));
+        return properties;
+    }
+
+    private static KitchenFeedEvent ticket(String orderId, Long... menuItemIds) {
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(orderId);
+        for (Long menuItemId : menuItemIds) {
+            ko.getItems().add(KitchenOrderedItem.builder().id("item-" + menuItemId).oderedItemID(menuItemId).build());
+        }
+        return KitchenFeedEvent.builder()
+                .type(KitchenFeedEvent.Type.TICKET_CREATED)
+                .kitchenOrderID(orderId)
+                .ticket(ko)
+                .build();
+    }
+
+    private static KitchenFeedEvent itemChanged(String itemId, String station, StatusEnum status) {
+        return KitchenFeedEvent.builder()
+                .type(KitchenFeedEvent.Type.ITEM_STATUS_CHANGED)
+                .kitchenOrderID("order-1")
+                .itemID(itemId)
+                .station(station)
+                .status(status)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final List<KitchenFeedEvent> events = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(KitchenFeedEvent.class::isInstance)
+                    .forEach(data -> events.add((KitchenFeedEvent) data));
+        }
+
+        void awaitSendStarted() throws InterruptedException {
+            assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<KitchenFeedEvent> awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            assertThat(events).hasSize(count);
+            return events;
+        }
+    }
+}
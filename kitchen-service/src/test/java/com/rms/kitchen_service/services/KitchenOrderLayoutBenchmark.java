@@ -0,0 +1,167 @@
+package com.rms.kitchen_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+/**
+ * Reads and item-status updates per second for the two-collection layout
+ * (order + {@code kitchenOrderID}-joined items) against items embedded in the
+ * order document. Needs a running MongoDB ({@code -Dkitchen.benchmark.mongo-uri},
+ * default {@code mongodb://localhost:27017}) and is skipped otherwise. Not part of
+ * the regular test run; execute with {@code mvn test -Dtest=KitchenOrderLayoutBenchmark}.
+ */
+class KitchenOrderLayoutBenchmark {
+
+    private static final String SPLIT_ORDERS = "bench-split-order";
+    private static final String SPLIT_ITEMS = "bench-split-item";
+    private static final String EMBEDDED_ORDERS = "bench-embedded-order";
+
+    private static final int ORDERS = 2_000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int OPERATIONS = 10_000;
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    private static final List<String> orderIds = new ArrayList<>();
+    private static final List<String> itemIds = new ArrayList<>();
+
+    @BeforeAll
+    static void connect() {
+        String uri = System.getProperty("kitchen.benchmark.mongo-uri", "mongodb://localhost:27017");
+        client = MongoClients.create(uri);
+        mongoTemplate = new MongoTemplate(client, "kitchen-layout-bench");
+        try {
+            mongoTemplate.executeCommand(new Document("ping", 1));
+        } catch (RuntimeException e) {
+            assumeTrue(false, "MongoDB not reachable at " + uri);
+        }
+
+        mongoTemplate.getDb().drop();
+        mongoTemplate.indexOps(SPLIT_ITEMS).createIndex(new Index("kitchenOrderID", Sort.Direction.ASC));
+        mongoTemplate.indexOps(EMBEDDED_ORDERS).createIndex(new Index("items._id", Sort.Direction.ASC));
+
+        List<KitchenOrder> splitOrders = new ArrayList<>();
+        List<KitchenOrderedItem> splitItems = new ArrayList<>();
+        List<KitchenOrder> embeddedOrders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            String orderId = new ObjectId().toHexString();
+            orderIds.add(orderId);
+            List<KitchenOrderedItem> items = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                String itemId = new ObjectId().toHexString();
+                itemIds.add(itemId);
+                items.add(KitchenOrderedItem.builder()
+                        .id(itemId)
+                        .kitchenOrderID(orderId)
+                        .oderedItemID((long) j)
+                        .orderedItemName("Item " + j)
+                        .quantity(1)
+                        .status(StatusEnum.PENDING)
+                        .unitPrice(BigDecimal.TEN)
+                        .totalPrice(BigDecimal.TEN)
+                        .build());
+            }
+            splitOrders.add(order(orderId, List.of()));
+            splitItems.addAll(items);
+            embeddedOrders.add(order(orderId, items));
+        }
+        mongoTemplate.insert(splitOrders, SPLIT_ORDERS);
+        mongoTemplate.insert(splitItems, SPLIT_ITEMS);
+        mongoTemplate.insert(embeddedOrders, EMBEDDED_ORDERS);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void compareLayouts() {
+        System.out.printf("%n%-10s %14s %14s%n", "layout", "reads/sec", "updates/sec");
+        System.out.printf("%-10s %14.0f %14.0f%n", "split",
+                opsPerSecond(this::splitRead), opsPerSecond(this::splitUpdate));
+        System.out.printf("%-10s %14.0f %14.0f%n", "embedded",
+                opsPerSecond(this::embeddedRead), opsPerSecond(this::embeddedUpdate));
+    }
+
+    private void splitRead() {
+        String id = randomOf(orderIds);
+        KitchenOrder ko = mongoTemplate.findById(id, KitchenOrder.class, SPLIT_ORDERS);
+        List<KitchenOrderedItem> items = mongoTemplate.find(query(where("kitchenOrderID").is(id)),
+                KitchenOrderedItem.class, SPLIT_ITEMS);
+        assertThat(ko).isNotNull();
+        assertThat(items).hasSize(ITEMS_PER_ORDER);
+    }
+
+    private void embeddedRead() {
+        KitchenOrder ko = mongoTemplate.findById(randomOf(orderIds), KitchenOrder.class, EMBEDDED_ORDERS);
+        assertThat(ko.getItems()).hasSize(ITEMS_PER_ORDER);
+    }
+
+    private void splitUpdate() {
+        KitchenOrderedItem item = mongoTemplate.findById(randomOf(itemIds), KitchenOrderedItem.class, SPLIT_ITEMS);
+        item.setStatus(nextStatus());
+        mongoTemplate.save(item, SPLIT_ITEMS);
+    }
+
+    private void embeddedUpdate() {
+        long matched = mongoTemplate.updateFirst(query(where("items._id").is(randomOf(itemIds))),
+                new Update().set("items.$.status", nextStatus()), KitchenOrder.class, EMBEDDED_ORDERS)
+                .getMatchedCount();
+        assertThat(matched).isEqualTo(1);
+    }
+
+    private static double opsPerSecond(Runnable operation) {
+        for (int i = 0; i < OPERATIONS / 10; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            operation.run();
+        }
+        return OPERATIONS / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static KitchenOrder order(String id, List<KitchenOrderedItem> items) {
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(id);
+        ko.setStatus(StatusEnum.PENDING);
+        ko.setTotalPrice(BigDecimal.valueOf(50));
+        ko.setItems(new ArrayList<>(items));
+        return ko;
+    }
+
+    private static String randomOf(List<String> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static StatusEnum nextStatus() {
+        return ThreadLocalRandom.current().nextBoolean() ? StatusEnum.PREPARING : StatusEnum.READY;
+    }
+}
@@ -0,0 +1,136 @@
+package com.rms.kitchen_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rms.kitchen_service.config.KitchenStationProperties;
+import com.rms.kitchen_service.dto.ScheduledItem;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.PriorityEnum;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+class KitchenSchedulerServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 31, 19, 0);
+
+    private KitchenSchedulerService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        KitchenStationProperties stations = new KitchenStationProperties();
+        stations.setStations(Map.of("grill", List.of(1L)));
+        scheduler = new KitchenSchedulerService(null, stations, 10, 20, 30, new PrepTimeEstimator(null, 300, 0.2, 5, 0));
+    }
+
+    @Test
+    void highPriorityGoesFirstButOldLowTicketsAreNotStarved() {
+        scheduler.schedule(ticket("medium", PriorityEnum.MEDIUM, NOW, 1L));
+        scheduler.schedule(ticket("high", PriorityEnum.HIGH, NOW.plusMinutes(2), 1L));
+        scheduler.schedule(ticket("old-low", PriorityEnum.LOW, NOW.minusMinutes(25), 1L));
+
+        assertThat(claimAll("grill")).containsExactly("old-low-1", "high-1", "medium-1");
+    }
+
+    @Test
+    void itemsAreQueuedAtTheirOwnStation() {
+        scheduler.schedule(ticket("t", PriorityEnum.MEDIUM, NOW, 1L, 2L));
+
+        assertThat(scheduler.queueDepths()).containsEntry("grill", 1).containsEntry("main", 1);
+        assertThat(scheduler.peekNext("main")).map(ScheduledItem::getItemID).contains("t-2");
+    }
+
+    @Test
+    void startedAndClosedItemsLeaveTheQueue() {
+        KitchenOrder ko = ticket("t", PriorityEnum.MEDIUM, NOW, 1L, 2L);
+        scheduler.schedule(ko);
+
+        KitchenOrderedItem grillItem = ko.getItems().get(0);
+        grillItem.setStatus(StatusEnum.PREPARING);
+        scheduler.onItemStatusChanged(ko, grillItem);
+        assertThat(scheduler.peekNext("grill")).isEmpty();
+
+        grillItem.setStatus(StatusEnum.PENDING);
+        scheduler.onItemStatusChanged(ko, grillItem);
+        assertThat(scheduler.peekNext("grill")).isPresent();
+
+        scheduler.unschedule("t");
+        assertThat(scheduler.peekNext("grill")).isEmpty();
+        assertThat(scheduler.peekNext("main")).isEmpty();
+    }
+
+    @Test
+    void priorityChangeReordersQueuedItems() {
+        scheduler.schedule(ticket("a", PriorityEnum.MEDIUM, NOW, 1L));
+        KitchenOrder b = ticket("b", PriorityEnum.MEDIUM, NOW.plusMinutes(1), 1L);
+        scheduler.schedule(b);
+
+        b.setPriority(PriorityEnum.HIGH);
+        scheduler.schedule(b);
+
+        assertThat(claimAll("grill")).containsExactly("b-1", "a-1");
+    }
+
+    @Test
+    void concurrentClaimsNeverShareAnItem() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            scheduler.schedule(ticket("t" + i, PriorityEnum.MEDIUM, NOW.plusSeconds(i), 1L));
+        }
+
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger claims = new AtomicInteger();
+        ExecutorService cooks = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            cooks.execute(() -> {
+                Optional<ScheduledItem> next;
+                while ((next = scheduler.claimNext("grill")).isPresent()) {
+                    claimed.add(next.get().getItemID());
+                    claims.incrementAndGet();
+                }
+            });
+        }
+        cooks.shutdown();
+        assertThat(cooks.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(claims.get()).isEqualTo(1_000);
+        assertThat(claimed).hasSize(1_000);
+    }
+
+    private List<String> claimAll(String station) {
+        List<String> ids = new ArrayList<>();
+        Optional<ScheduledItem> next;
+        while ((next = scheduler.claimNext(station)).isPresent()) {
+            ids.add(next.get().getItemID());
+        }
+        return ids;
+    }
+
+    private static KitchenOrder ticket(String id, PriorityEnum priority, LocalDateTime createdAt, Long... menuItemIds) {
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId(id);
+        ko.setPriority(priority);
+        ko.setCreatedAt(createdAt);
+        for (Long menuItemId : menuItemIds) {
+            ko.getItems().add(KitchenOrderedItem.builder()
+                    .id(id + "-" + menuItemId)
+                    .oderedItemID(menuItemId)
+                    .status(StatusEnum.PENDING)
+                    .build());
+        }
+        return ko;
+    }
+}
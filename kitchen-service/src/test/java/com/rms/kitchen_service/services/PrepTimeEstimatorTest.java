@@ -0,0 +1,97 @@
+package com.rms.kitchen_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rms.kitchen_service.dto.KitchenOrderEta;
+import com.rms.kitchen_service.entity.KitchenOrder;
+import com.rms.kitchen_service.entity.KitchenOrderedItem;
+import com.rms.kitchen_service.enums.StatusEnum;
+
+class PrepTimeEstimatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 31, 19, 0);
+
+    private PrepTimeEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new PrepTimeEstimator(null, 300, 0.2, 5, 0);
+    }
+
+    @Test
+    void quantilesStayWithinTheSketchAccuracy() {
+        PrepTimeStats stats = new PrepTimeStats(0.2);
+        Random random = new Random(7);
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            double seconds = 120 + random.nextInt(600);
+            samples.add(seconds);
+            stats.record(seconds);
+        }
+        samples.sort(null);
+
+        for (double q : new double[] { 0.5, 0.9, 0.99 }) {
+            double exact = samples.get((int) Math.ceil(q * samples.size()) - 1);
+            assertThat(stats.quantile(q)).isCloseTo(exact, within(exact * 0.03));
+        }
+    }
+
+    @Test
+    void defaultPrepTimeIsUsedUntilEnoughSamples() {
+        for (int i = 0; i < 4; i++) {
+            estimator.onItemStatusChanged(readyItem(1L, 600));
+        }
+        assertThat(estimator.expectedPrepTime(1L)).isEqualTo(Duration.ofSeconds(300));
+
+        estimator.onItemStatusChanged(readyItem(1L, 600));
+        assertThat(estimator.expectedPrepTime(1L)).isEqualTo(Duration.ofSeconds(600));
+    }
+
+    @Test
+    void etaFollowsTheSlowestOpenItemAndSubtractsElapsedTime() {
+        for (int i = 0; i < 10; i++) {
+            estimator.onItemStatusChanged(readyItem(1L, 600));
+            estimator.onItemStatusChanged(readyItem(2L, 240));
+        }
+        KitchenOrder ko = new KitchenOrder();
+        ko.setId("t");
+        ko.setStatus(StatusEnum.PREPARING);
+        ko.setItems(List.of(
+                item(1L, StatusEnum.PREPARING, NOW.minusSeconds(500), null),
+                item(2L, StatusEnum.PENDING, null, null),
+                item(3L, StatusEnum.READY, NOW.minusSeconds(900), NOW.minusSeconds(60))));
+
+        KitchenOrderEta eta = estimator.estimate(ko, NOW);
+
+        // item 1 has ~100s left, item 2 has not started and needs ~240s
+        assertThat(eta.getRemainingSeconds()).isBetween(235L, 245L);
+        assertThat(eta.getExpectedReadyAt()).isEqualTo(NOW.plusSeconds(eta.getRemainingSeconds()));
+        assertThat(eta.getLatestReadyAt()).isAfterOrEqualTo(eta.getExpectedReadyAt());
+        assertThat(eta.isFromHistory()).isTrue();
+    }
+
+    private static KitchenOrderedItem readyItem(Long menuItemId, long prepSeconds) {
+        return item(menuItemId, StatusEnum.READY, NOW.minusSeconds(prepSeconds), NOW);
+    }
+
+    private static KitchenOrderedItem item(Long menuItemId, StatusEnum status, LocalDateTime preparingAt,
+            LocalDateTime readyAt) {
+        return KitchenOrderedItem.builder()
+                .id("item-" + menuItemId)
+                .oderedItemID(menuItemId)
+                .status(status)
+                .preparingAt(preparingAt)
+                .readyAt(readyAt)
+                .build();
+    }
+}
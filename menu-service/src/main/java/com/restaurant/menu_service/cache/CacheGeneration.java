@@ -0,0 +1,19 @@
+package com.restaurant.menu_service.cache;
+
+/**
+ * Counter advanced whenever a cache is cleared. A load compares it before and
+ * after, so a value read before a clear is never written back after it.
+ */
+public interface CacheGeneration {
+
+    /**
+     * @return the current generation
+     */
+    public long current();
+
+    /**
+     * Start a new generation; called before the cache is cleared.
+     */
+    public void advance();
+
+}
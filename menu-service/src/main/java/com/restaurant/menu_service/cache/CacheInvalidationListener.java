@@ -0,0 +1,35 @@
+package com.restaurant.menu_service.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Receives cache names published on the invalidation channel and drops the
+ * matching near caches on this node. The shared Redis entries were already
+ * removed by the node that published.
+ */
+@Slf4j
+public class CacheInvalidationListener implements MessageListener {
+
+    private final CacheManager cacheManager;
+
+    public CacheInvalidationListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheName = new String(message.getBody(), StandardCharsets.UTF_8);
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.invalidateNear();
+            log.debug("Near cache {} invalidated", cacheName);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.restaurant.menu_service.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the invalidation listener container after startup, retrying while Redis
+ * is unreachable, so a Redis outage does not stop menu-service from starting (the
+ * container fails outright if its first subscription fails). Near copies are
+ * dropped once it is subscribed, since invalidations sent before then were missed.
+ * Later disconnects are recovered by the container itself.
+ */
+@Slf4j
+@Component
+public class InvalidationContainerStarter {
+
+    private final RedisMessageListenerContainer container;
+    private final CacheManager cacheManager;
+    private final Duration retryDelay;
+
+    private volatile boolean stopped;
+
+    public InvalidationContainerStarter(RedisMessageListenerContainer cacheInvalidationContainer,
+            CacheManager cacheManager, @Value("${menu.cache.listener-retry-seconds:10}") long retrySeconds) {
+        this.container = cacheInvalidationContainer;
+        this.cacheManager = cacheManager;
+        this.retryDelay = Duration.ofSeconds(retrySeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform().name("menu-cache-invalidation-start").daemon().start(this::startWithRetry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    private void startWithRetry() {
+        while (!stopped) {
+            try {
+                container.start();
+                for (String name : cacheManager.getCacheNames()) {
+                    if (cacheManager.getCache(name) instanceof TwoLevelCache cache) {
+                        cache.invalidateNear();
+                    }
+                }
+                log.info("Subscribed to menu cache invalidations");
+                return;
+            } catch (RuntimeException e) {
+                // a failed first subscription leaves the container marked started; reset it before retrying
+                container.stop();
+                log.warn("Cache invalidation channel unavailable, retrying in {}s: {}", retryDelay.toSeconds(), e.getMessage());
+            }
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menu_service.cache;
+
+import java.util.List;
+
+public final class MenuCacheNames {
+
+    public static final String ALL = "menu-all";
+
+    public static final String BY_CATEGORY = "menu-by-category";
+
+    public static final String FILTERED = "menu-filtered";
+
+    /** Every cache holding menu query results; a menu write invalidates all of them. */
+    public static final List<String> MENU_QUERIES = List.of(ALL, BY_CATEGORY, FILTERED);
+
+    private MenuCacheNames() {
+    }
+}
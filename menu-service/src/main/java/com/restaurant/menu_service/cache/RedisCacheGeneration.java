@@ -0,0 +1,44 @@
+package com.restaurant.menu_service.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generation shared by every node through a Redis counter. While Redis is
+ * unreachable a local counter stands in; remote writes fail then anyway.
+ */
+@Slf4j
+public class RedisCacheGeneration implements CacheGeneration {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final AtomicLong local = new AtomicLong();
+
+    public RedisCacheGeneration(StringRedisTemplate redisTemplate, String cacheName) {
+        this.redisTemplate = redisTemplate;
+        this.key = "menu-cache-generation:" + cacheName;
+    }
+
+    @Override
+    public long current() {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (RuntimeException e) {
+            return local.get();
+        }
+    }
+
+    @Override
+    public void advance() {
+        local.incrementAndGet();
+        try {
+            redisTemplate.opsForValue().increment(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to advance cache generation {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.restaurant.menu_service.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Near cache in each menu-service node in front of a shared remote cache (Redis).
+ * Reads try the near cache, then the remote one, then the loader; a remote hit is
+ * copied into the near cache. Evictions clear the remote cache and publish the
+ * cache name so every node drops its near copy, including this one. Loads are
+ * checked against a {@link CacheGeneration}: a value loaded across a clear is
+ * returned to its caller but kept out of both levels, so it cannot outlive the
+ * clear for the remote TTL.
+ *
+ * <p>The remote cache is best effort: if Redis is unreachable the value is loaded
+ * from Mongo and the request still succeeds.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> near;
+    private final Cache remote;
+    private final Consumer<String> invalidationPublisher;
+    private final CacheGeneration generation;
+
+    private final Counter nearHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> near, Cache remote,
+            Consumer<String> invalidationPublisher, CacheGeneration generation, MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.near = near;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.generation = generation;
+        this.nearHits = counter(meterRegistry, "hit", "near");
+        this.remoteHits = counter(meterRegistry, "hit", "redis");
+        this.misses = counter(meterRegistry, "miss", "none");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = near.getIfPresent(key);
+        if (value != null) {
+            nearHits.increment();
+            return value;
+        }
+        value = remoteLookup(key);
+        if (value != null) {
+            remoteHits.increment();
+            near.put(key, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value == null) {
+            long started = generation.current();
+            boolean[] loadedHere = new boolean[1];
+            // concurrent misses on this node share one load (needs @Cacheable(sync = true))
+            value = near.get(key, k -> {
+                try {
+                    loadedHere[0] = true;
+                    return toStoreValue(valueLoader.call());
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(k, valueLoader, e);
+                }
+            });
+            if (loadedHere[0]) {
+                storeLoaded(key, value, started);
+            }
+        }
+        return (T) fromStoreValue(value);
+    }
+
+    // checked before the put and again after it, so a clear racing the put still wins
+    private void storeLoaded(Object key, Object storeValue, long started) {
+        if (generation.current() == started) {
+            remotePut(key, storeValue);
+            if (generation.current() == started) {
+                return;
+            }
+            remoteEvict(key);
+        }
+        near.invalidate(key);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        remotePut(key, storeValue);
+        near.put(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.advance();
+        remoteEvict(key);
+        near.invalidate(key);
+        // keys are not serialized on the channel; other nodes drop the whole near cache
+        invalidationPublisher.accept(name);
+    }
+
+    @Override
+    public void clear() {
+        generation.advance();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear remote cache {}: {}", name, e.getMessage());
+        }
+        near.invalidateAll();
+        invalidationPublisher.accept(name);
+    }
+
+    /** Drop this node's near copy only; called when another node invalidates. */
+    public void invalidateNear() {
+        near.invalidateAll();
+    }
+
+    // values are stored in store form (NullValue for null), so both levels agree
+    private Object remoteLookup(Object key) {
+        try {
+            Cache.ValueWrapper wrapper = remote.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("Remote cache {} unavailable, reading through: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remoteEvict(Object key) {
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} from remote cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    private void remotePut(Object key, Object storeValue) {
+        try {
+            remote.put(key, storeValue);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} to remote cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String result, String level) {
+        return Counter.builder("menu.cache.gets")
+                .description("Menu cache lookups by level that answered")
+                .tag("cache", name)
+                .tag("result", result)
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+}
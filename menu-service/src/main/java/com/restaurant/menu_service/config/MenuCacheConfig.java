@@ -0,0 +1,98 @@
+package com.restaurant.menu_service.config;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.restaurant.menu_service.cache.CacheInvalidationListener;
+import com.restaurant.menu_service.cache.MenuCacheNames;
+import com.restaurant.menu_service.cache.RedisCacheGeneration;
+import com.restaurant.menu_service.cache.TwoLevelCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Two-level cache for menu queries: Caffeine on each node in front of Redis,
+ * with near copies invalidated over a Redis pub/sub channel.
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class MenuCacheConfig {
+
+    @Value("${menu.cache.invalidation-channel:menu-cache-invalidation}")
+    private String invalidationChannel;
+
+    // bounds staleness if an invalidation message is missed
+    @Value("${menu.cache.near-ttl-seconds:300}")
+    private long nearTtlSeconds;
+
+    @Value("${menu.cache.near-max-entries:1000}")
+    private long nearMaxEntries;
+
+    @Value("${menu.cache.redis-ttl-minutes:60}")
+    private long redisTtlMinutes;
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(Duration.ofMinutes(redisTtlMinutes))
+                        .serializeValuesWith(SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        Consumer<String> publisher = cacheName -> {
+            try {
+                redisTemplate.convertAndSend(invalidationChannel, cacheName);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish invalidation for {}: {}", cacheName, e.getMessage());
+            }
+        };
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(MenuCacheNames.MENU_QUERIES.stream()
+                .map(name -> new TwoLevelCache(name,
+                        Caffeine.newBuilder()
+                                .maximumSize(nearMaxEntries)
+                                .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                                .build(),
+                        redisCacheManager.getCache(name), publisher,
+                        new RedisCacheGeneration(redisTemplate, name), meterRegistry))
+                .collect(Collectors.toList()));
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationContainer(RedisConnectionFactory connectionFactory,
+            CacheManager cacheManager) {
+        // started by InvalidationContainerStarter, which tolerates Redis being down at startup
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new CacheInvalidationListener(cacheManager), new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
@@ -1,29 +1,54 @@
 package com.restaurant.menu_service.controllers;
 
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.restaurant.menu_service.dto.MenuImportResult;
 import com.restaurant.menu_service.dto.MenuItemRequest;
 import com.restaurant.menu_service.dto.MenuItemsResponse;
+import com.restaurant.menu_service.dto.MenuLookupRequest;
+import com.restaurant.menu_service.dto.MenuLookupResponse;
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.dto.MenuSnapshot;
 import com.restaurant.menu_service.enums.CategoryEnum;
 import com.restaurant.menu_service.services.MenuService;
+import com.restaurant.menu_service.services.Interface.IMenuImportService;
+import com.restaurant.menu_service.services.Interface.IMenuSearchService;
+import com.restaurant.menu_service.services.Interface.IMenuSnapshotService;
 
 
 @RequestMapping("/menu")
 @RestController
 public class MenuServiceController {
 
+    private static final String MENU_VERSION_HEADER = "X-Menu-Version";
+
     @Autowired
     private MenuService menuService;
+
+    @Autowired
+    private IMenuSnapshotService menuSnapshotService;
+
+    @Autowired
+    private IMenuSearchService menuSearchService;
+
+    @Autowired
+    private IMenuImportService menuImportService;
     
     @PostMapping("/addItem")
     public ResponseEntity<?> postMethodName(@RequestBody MenuItemRequest req) {
@@ -34,21 +59,77 @@ public class MenuServiceController {
             return ResponseEntity.ok("Not Saved!");
     }
 
+    // JSON array or NDJSON, read as a stream; bad rows are reported in the result instead of failing the import
+    @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public MenuImportResult importItems(InputStream body) {
+        return menuImportService.importItems(body);
+    }
+
+    // pre-serialized snapshot; clients revalidate with If-None-Match and get a 304 while the menu is unchanged
     @GetMapping("/getAll")
-    public List<MenuItemsResponse> getMethodName() {
-        return menuService.getAll();
+    public ResponseEntity<byte[]> getMethodName(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuSnapshot snapshot = menuSnapshotService.current();
+
+        if (matches(ifNoneMatch, snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .header(MENU_VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(MENU_VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return response.body(snapshot.getJson());
     }
     
+    // price and availability for many items in one call, from the in-memory snapshot
+    @PostMapping("/lookup")
+    public MenuLookupResponse lookup(@RequestBody MenuLookupRequest req) {
+        return menuSnapshotService.lookup(req.getIds() != null ? req.getIds() : List.of());
+    }
+
+    @GetMapping("/search")
+    public List<MenuSearchHit> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        return menuSearchService.search(q, limit);
+    }
+
     @GetMapping("getItem/{category}")
     public List<MenuItemsResponse> getMethodName(@PathVariable CategoryEnum category) {
         return menuService.getItemByCategory(category);
     }
     
     @GetMapping()
-    public List<MenuItemsResponse> getMethodName(@RequestParam(required = false) Double price,
+    public List<MenuItemsResponse> getMethodName(@RequestParam(required = false) CategoryEnum category,
+                                @RequestParam(required = false) Double price,
                                 @RequestParam(required = false) Boolean available,
                                 @RequestParam(required = false) Boolean veg,
-                                @RequestParam(defaultValue = "asc") String sort) {
-        return menuService.getFilteredItems(price, available, veg, sort);
+                                @RequestParam(defaultValue = "asc") String sort,
+                                @RequestParam(required = false) Integer page,
+                                @RequestParam(required = false) Integer size) {
+        return menuService.getFilteredItems(category, price, available, veg, sort, page, size);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
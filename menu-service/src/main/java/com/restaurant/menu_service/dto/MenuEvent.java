@@ -0,0 +1,42 @@
+package com.restaurant.menu_service.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.restaurant.menu_service.enums.CategoryEnum;
+import com.restaurant.menu_service.enums.MenuEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change to one menu item on the menu-events topic, keyed by item id. Only the
+ * fields a cache needs are sent; AVAILABILITY_CHANGED carries just id and
+ * available, DELETED just the id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MenuEvent {
+
+    private MenuEventType type;
+
+    private String itemId;
+
+    private String name;
+
+    private CategoryEnum categoryType;
+
+    private Double price;
+
+    private Boolean available;
+
+    private Boolean veg;
+
+    private Instant timestamp;
+
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menu_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportError {
+
+    private int row; // 1-based position in the import
+
+    private String name;
+
+    private String message;
+
+}
@@ -0,0 +1,26 @@
+package com.restaurant.menu_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportResult {
+
+    private int received;
+
+    private int created;
+
+    private int updated; // rows matching an existing item by category and name
+
+    private int failed;
+
+    private List<MenuImportError> errors; // the first 1000 failures; failed counts them all
+
+}
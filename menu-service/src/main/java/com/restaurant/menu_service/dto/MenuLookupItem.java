@@ -0,0 +1,22 @@
+package com.restaurant.menu_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuLookupItem {
+
+    private String id;
+
+    private String name;
+
+    private double price;
+
+    private boolean available;
+
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menu_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuLookupRequest {
+
+    private List<String> ids;
+
+}
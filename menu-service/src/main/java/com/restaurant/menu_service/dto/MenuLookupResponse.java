@@ -0,0 +1,24 @@
+package com.restaurant.menu_service.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuLookupResponse {
+
+    private long version;
+
+    private String etag; // same value as the /menu/getAll ETag; changes whenever any item changes
+
+    private List<MenuLookupItem> items;
+
+    private List<String> missing; // requested ids with no menu item
+
+}
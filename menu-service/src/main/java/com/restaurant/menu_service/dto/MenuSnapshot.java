@@ -0,0 +1,27 @@
+package com.restaurant.menu_service.dto;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Serialized menu as served by {@code GET /menu/getAll}. Immutable: a menu change
+ * replaces the whole snapshot, so readers never see a half-built one.
+ */
+@Value
+@Builder
+public class MenuSnapshot {
+
+    long version; // increases on this node each time the menu content changes
+
+    String etag; // quoted content hash, identical on every node for the same menu
+
+    byte[] json;
+
+    byte[] gzip;
+
+    Map<String, MenuLookupItem> byId; // unmodifiable, for id lookups without touching Mongo
+
+    int itemCount;
+}
@@ -1,6 +1,8 @@
 package com.restaurant.menu_service.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.restaurant.menu_service.enums.CategoryEnum;
@@ -13,6 +15,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "menu_items")
+@CompoundIndexes({
+    // equality filters first, price last so it serves both the range filter and the sort
+    @CompoundIndex(name = "category_available_veg_price", def = "{'categoryType': 1, 'available': 1, 'Veg': 1, 'price': 1}"),
+    @CompoundIndex(name = "available_veg_price", def = "{'available': 1, 'Veg': 1, 'price': 1}"),
+    // bulk import matches existing items by category and name; unique so concurrent writers cannot duplicate one
+    @CompoundIndex(name = "category_name", def = "{'categoryType': 1, 'name': 1}", unique = true)
+})
 public class MenuItems {
 
     @Id
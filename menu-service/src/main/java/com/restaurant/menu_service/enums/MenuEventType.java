@@ -0,0 +1,5 @@
+package com.restaurant.menu_service.enums;
+
+public enum MenuEventType {
+    CREATED, UPDATED, AVAILABILITY_CHANGED, DELETED
+}
@@ -0,0 +1,16 @@
+package com.restaurant.menu_service.mapper;
+
+import com.restaurant.menu_service.dto.MenuLookupItem;
+import com.restaurant.menu_service.entity.MenuItems;
+
+public class MenuItemToLookupItemMapper {
+
+    public static MenuLookupItem toLookupItem(MenuItems item) {
+        MenuLookupItem lookupItem = new MenuLookupItem();
+        lookupItem.setId(item.getId());
+        lookupItem.setName(item.getName());
+        lookupItem.setPrice(item.getPrice());
+        lookupItem.setAvailable(item.isAvailable());
+        return lookupItem;
+    }
+}
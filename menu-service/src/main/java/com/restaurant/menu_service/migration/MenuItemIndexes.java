@@ -0,0 +1,46 @@
+package com.restaurant.menu_service.migration;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoException;
+import com.restaurant.menu_service.entity.MenuItems;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes declared on {@link MenuItems} once the application has
+ * started, instead of through auto-index-creation while the mapping context is
+ * built. createIndex is a no-op for an index that already exists. If Mongo is
+ * unreachable the service still starts and the indexes are created on the next
+ * start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "menu.indexes.create-on-startup", havingValue = "true", matchIfMissing = true)
+@Order(1)
+public class MenuItemIndexes implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexOperations indexOps = mongoTemplate.indexOps(MenuItems.class);
+        try {
+            IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                    .resolveIndexFor(MenuItems.class)
+                    .forEach(indexOps::createIndex);
+        } catch (DataAccessException | MongoException e) {
+            log.warn("Could not create menu_items indexes, retrying on next start: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.restaurant.menu_service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.entity.MenuItems;
+
+/**
+ * In-memory inverted index over menu item name, category and description.
+ *
+ * <p>Terms live in a sorted map, so the last query word is matched as a prefix
+ * (search as you type) with a range scan. Words with no exact or prefix match
+ * fall back to typo-tolerant matching: candidate terms sharing a trigram with
+ * the word are checked with an edit distance of 1, or 2 for long words.
+ *
+ * <p>A document scores, per query word, its best match: field weight (name 3,
+ * category 2, description 1) times match quality (exact 1, prefix 0.7, typo
+ * 0.4) times the term's idf. The sum is scaled by the share of query words
+ * matched, so items matching every word come first. Items are added and removed
+ * one at a time under a write lock; searches share a read lock.
+ */
+public class MenuSearchIndex {
+
+    private static final double NAME_WEIGHT = 3;
+    private static final double CATEGORY_WEIGHT = 2;
+    private static final double DESCRIPTION_WEIGHT = 1;
+
+    private static final double EXACT = 1;
+    private static final double PREFIX = 0.7;
+    private static final double TYPO = 0.4;
+
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final int GRAM = 3;
+
+    private static final Comparator<Ranked> RANKING = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(ranked -> ranked.item().isAvailable(), Comparator.reverseOrder())
+            .thenComparing(ranked -> ranked.item().getName() != null ? ranked.item().getName() : "");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, MenuItems> documents = new HashMap<>();
+    // term -> document id -> summed field weight of the term in that document
+    private final NavigableMap<String, Map<String, Double>> postings = new TreeMap<>();
+    // trigram -> terms containing it, for typo candidates
+    private final Map<String, Set<String>> grams = new HashMap<>();
+
+    public void replaceAll(Collection<MenuItems> items) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            grams.clear();
+            items.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(MenuItems item) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(item.getId());
+            addLocked(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<MenuSearchHit> search(String query, int limit) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, double[]> scores = new HashMap<>(); // id -> {score, words matched}
+            for (int i = 0; i < words.size(); i++) {
+                Map<String, Double> best = match(words.get(i), i == words.size() - 1);
+                best.forEach((id, score) -> {
+                    double[] total = scores.computeIfAbsent(id, k -> new double[2]);
+                    total[0] += score;
+                    total[1]++;
+                });
+            }
+
+            List<Ranked> ranked = new ArrayList<>(scores.size());
+            scores.forEach((id, total) -> {
+                double coverage = total[1] / words.size();
+                ranked.add(new Ranked(documents.get(id), total[0] * coverage * coverage));
+            });
+            ranked.sort(RANKING);
+
+            // hits are only built for the page actually returned
+            List<MenuSearchHit> hits = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = 0; i < ranked.size() && i < limit; i++) {
+                hits.add(toHit(ranked.get(i).item(), ranked.get(i).score()));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // best score per document for one query word
+    private Map<String, Double> match(String word, boolean allowPrefix) {
+        Map<String, Double> best = new HashMap<>();
+        Map<String, Double> exact = postings.get(word);
+        if (exact != null) {
+            collect(best, exact, EXACT);
+        }
+        if (allowPrefix) {
+            for (Map.Entry<String, Map<String, Double>> term : postings.subMap(word, false, word + Character.MAX_VALUE, false).entrySet()) {
+                collect(best, term.getValue(), PREFIX);
+            }
+        }
+        if (best.isEmpty() && word.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = word.length() >= 8 ? 2 : 1;
+            for (String candidate : typoCandidates(word)) {
+                int edits = distance(word, candidate, maxEdits);
+                if (edits <= maxEdits) {
+                    collect(best, postings.get(candidate), TYPO / Math.max(edits, 1));
+                }
+            }
+        }
+        return best;
+    }
+
+    private void collect(Map<String, Double> best, Map<String, Double> termPostings, double quality) {
+        double idf = Math.log(1 + (double) documents.size() / termPostings.size());
+        termPostings.forEach((id, weight) -> best.merge(id, weight * quality * idf, Math::max));
+    }
+
+    private Set<String> typoCandidates(String word) {
+        Set<String> candidates = new HashSet<>();
+        for (String gram : grams(word)) {
+            Set<String> terms = grams.get(gram);
+            if (terms != null) {
+                for (String term : terms) {
+                    if (Math.abs(term.length() - word.length()) <= 2) {
+                        candidates.add(term);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void addLocked(MenuItems item) {
+        if (item.getId() == null) {
+            return;
+        }
+        documents.put(item.getId(), item);
+        for (Map.Entry<String, Double> term : terms(item).entrySet()) {
+            boolean newTerm = !postings.containsKey(term.getKey());
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(item.getId(), term.getValue());
+            if (newTerm) {
+                for (String gram : grams(term.getKey())) {
+                    grams.computeIfAbsent(gram, k -> new HashSet<>()).add(term.getKey());
+                }
+            }
+        }
+    }
+
+    private void removeLocked(String id) {
+        MenuItems previous = id != null ? documents.remove(id) : null;
+        if (previous == null) {
+            return;
+        }
+        for (String term : terms(previous).keySet()) {
+            Map<String, Double> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+            termPostings.remove(id);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+                for (String gram : grams(term)) {
+                    Set<String> terms = grams.get(gram);
+                    if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                        grams.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, Double> terms(MenuItems item) {
+        Map<String, Double> terms = new LinkedHashMap<>();
+        tokenize(item.getName()).forEach(term -> terms.merge(term, NAME_WEIGHT, Double::sum));
+        if (item.getCategoryType() != null) {
+            tokenize(item.getCategoryType().name()).forEach(term -> terms.merge(term, CATEGORY_WEIGHT, Double::sum));
+        }
+        tokenize(item.getDescription()).forEach(term -> terms.merge(term, DESCRIPTION_WEIGHT, Double::sum));
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> grams(String term) {
+        String padded = "^" + term + "$";
+        List<String> result = new ArrayList<>(padded.length());
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            result.add(padded.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    /** Optimal string alignment distance, giving up once it exceeds max. */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            int rowMin = Integer.MAX_VALUE;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, d[i][j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    private static MenuSearchHit toHit(MenuItems item, double score) {
+        return MenuSearchHit.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .categoryType(item.getCategoryType())
+                .description(item.getDescription())
+                .price(item.getPrice())
+                .available(item.isAvailable())
+                .isVeg(item.isVeg())
+                .score(Math.round(score * 1000) / 1000.0)
+                .build();
+    }
+
+    private record Ranked(MenuItems item, double score) {
+    }
+}
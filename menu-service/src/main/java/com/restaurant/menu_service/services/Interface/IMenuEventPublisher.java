@@ -0,0 +1,15 @@
+package com.restaurant.menu_service.services.Interface;
+
+import com.restaurant.menu_service.entity.MenuItems;
+
+public interface IMenuEventPublisher {
+
+    /**
+     * Report an item written by this service. Published only when the change
+     * stream is not the event source; otherwise the change stream reports it.
+     * @param item saved item, with its id
+     * @param created whether the item is new
+     */
+    public void itemSaved(MenuItems item, boolean created);
+
+}
@@ -0,0 +1,18 @@
+package com.restaurant.menu_service.services.Interface;
+
+import java.io.InputStream;
+
+import com.restaurant.menu_service.dto.MenuImportResult;
+
+public interface IMenuImportService {
+
+    /**
+     * Import menu items from a JSON array or newline-delimited JSON. Items are
+     * matched to existing ones by category and name and written in unordered
+     * bulk chunks; rows that fail validation or the write are reported, not fatal.
+     * @param body request body, read as a stream
+     * @return counts and per-row errors
+     */
+    public MenuImportResult importItems(InputStream body);
+
+}
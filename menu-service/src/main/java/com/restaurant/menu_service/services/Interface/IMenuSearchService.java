@@ -0,0 +1,32 @@
+package com.restaurant.menu_service.services.Interface;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.entity.MenuItems;
+
+public interface IMenuSearchService {
+
+    /**
+     * Search name, category and description; the last word matches as a prefix
+     * and small typos are tolerated.
+     * @param query free text
+     * @param limit maximum hits
+     * @return best matches first
+     */
+    public List<MenuSearchHit> search(String query, int limit);
+
+    /**
+     * Add or replace one item in the index.
+     * @param item saved menu item, with its id
+     */
+    public void index(MenuItems item);
+
+    /**
+     * Add or replace several items in the index and tell the other nodes once.
+     * @param items saved menu items, with their ids
+     */
+    public void indexAll(Collection<MenuItems> items);
+
+}
@@ -14,6 +14,18 @@ public interface IMenuService {
 
     public List<MenuItemsResponse> getItemByCategory(CategoryEnum type);
 
-    public List<MenuItemsResponse> getFilteredItems(Double price, Boolean available, Boolean veg, String sort);
+    /**
+     * Filter and sort the menu in Mongo; every filter is optional.
+     * @param category category to match
+     * @param price maximum price
+     * @param available availability to match
+     * @param veg veg flag to match
+     * @param sort "desc" for highest price first, anything else ascending
+     * @param page zero-based page, used only with size
+     * @param size page size (capped at 200); null returns every match
+     * @return matching items ordered by price
+     */
+    public List<MenuItemsResponse> getFilteredItems(CategoryEnum category, Double price, Boolean available, Boolean veg,
+            String sort, Integer page, Integer size);
 
 }
@@ -0,0 +1,27 @@
+package com.restaurant.menu_service.services.Interface;
+
+import java.util.Collection;
+
+import com.restaurant.menu_service.dto.MenuLookupResponse;
+import com.restaurant.menu_service.dto.MenuSnapshot;
+
+public interface IMenuSnapshotService {
+
+    /**
+     * @return the current snapshot, rebuilt first if the menu changed since the last one
+     */
+    public MenuSnapshot current();
+
+    /**
+     * Mark the snapshot stale; the next read rebuilds it.
+     */
+    public void invalidate();
+
+    /**
+     * Resolve many items from the current snapshot's id index.
+     * @param ids menu item ids
+     * @return the items found, the ids that were not, and the snapshot version they came from
+     */
+    public MenuLookupResponse lookup(Collection<String> ids);
+
+}
@@ -0,0 +1,391 @@
+package com.restaurant.menu_service.services;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.exists;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Filters.or;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.restaurant.menu_service.dto.MenuEvent;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.MenuEventType;
+import com.restaurant.menu_service.services.Interface.IMenuEventPublisher;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes menu item changes to menu-events.
+ *
+ * <p>With {@code menu.events.source=change-stream} (or {@code auto} on a replica
+ * set or sharded cluster) changes are read from a Mongo change stream on
+ * menu_items, so writes from any node or tool are captured. Only the node holding
+ * the lease in menu_event_positions watches the stream; the others retry the
+ * lease and take over when it expires. Each event is sent and acknowledged
+ * before its resume token is stored next to the lease, only while the lease is
+ * still held, and the owner resumes from the stored token: delivery is at least
+ * once, in change order.
+ *
+ * <p>Availability changes are found by comparing each change with its pre-image,
+ * which is enabled on menu_items when the lease is taken (MongoDB 6.0+). Without
+ * a pre-image every update is published as UPDATED.
+ *
+ * <p>Standalone Mongo has no change streams; there {@code auto} falls back to
+ * publishing from this service's write path ({@link #itemSaved}), which only
+ * sees writes made through menu-service. Startup does not wait for Mongo: until
+ * {@code auto} has found out which kind of server it talks to, writes are also
+ * published from the write path, so an early change may be sent twice.
+ */
+@Slf4j
+@Service
+public class MenuEventPublisher implements IMenuEventPublisher {
+
+    public enum Source {
+        AUTO, CHANGE_STREAM, WRITE_PATH
+    }
+
+    private static final String MENU_TOPIC = "menu-events";
+    private static final String COLLECTION = "menu_items";
+    private static final String POSITIONS = "menu_event_positions";
+    private static final String POSITION_ID = "menu-events";
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Source source;
+    private final long sendTimeoutMs;
+    private final long leaseMs;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile boolean changeStreamActive;
+    private volatile boolean running = true;
+    private volatile boolean leading;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private boolean preImages;
+    private long leaseRenewedAt;
+    private Thread watcher;
+
+    public MenuEventPublisher(MongoTemplate mongoTemplate, KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${menu.events.source:AUTO}") Source source,
+            @Value("${menu.events.send-timeout-ms:10000}") long sendTimeoutMs,
+            @Value("${menu.events.lease-ms:30000}") long leaseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.source = source;
+        this.sendTimeoutMs = sendTimeoutMs;
+        // an event waits at most send-timeout-ms before its token is stored, so the lease must outlast two of them
+        this.leaseMs = Math.max(leaseMs, 2 * sendTimeoutMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (source == Source.WRITE_PATH) {
+            log.info("Menu events published from the write path");
+            return;
+        }
+        changeStreamActive = source == Source.CHANGE_STREAM;
+        watcher = Thread.ofPlatform().name("menu-change-stream").daemon().start(this::run);
+    }
+
+    @Override
+    public void itemSaved(MenuItems item, boolean created) {
+        if (changeStreamActive) {
+            return;
+        }
+        MenuEvent event = toEvent(created ? MenuEventType.CREATED : MenuEventType.UPDATED, item);
+        kafkaTemplate.send(MENU_TOPIC, item.getId(), event).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("Failed to publish {} for menu item {}: {}", event.getType(), item.getId(), ex.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        if (watcher != null) {
+            watcher.join(RETRY_DELAY.toMillis());
+        }
+        if (leading) {
+            try {
+                positions().updateOne(and(eq("_id", POSITION_ID), eq("owner", instanceId)),
+                        Updates.set("leaseUntil", new Date(0)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to release menu events lease: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        if (source == Source.AUTO && !resolveSource()) {
+            return;
+        }
+        while (running) {
+            try {
+                if (holdLease()) {
+                    lead();
+                } else {
+                    Thread.sleep(RETRY_DELAY);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                // reopen from the last stored position; the failed change is delivered again
+                log.error("Menu change stream failed, resuming in {}s: {}", RETRY_DELAY.toSeconds(), e.getMessage());
+                closeQuietly();
+                try {
+                    Thread.sleep(RETRY_DELAY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Ask the server whether it supports change streams, retrying until Mongo is
+     * reachable, and switch the write-path fallback off or leave it on.
+     */
+    boolean resolveSource() {
+        while (running) {
+            try {
+                Document hello = mongoTemplate.getDb().runCommand(new Document("hello", 1));
+                // replica set members report setName; mongos reports isdbgrid
+                if (hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"))) {
+                    changeStreamActive = true;
+                    log.info("Menu events published from the menu_items change stream");
+                    return true;
+                }
+                log.warn("Change streams unavailable on a standalone server; menu events published from the write path");
+                return false;
+            } catch (RuntimeException e) {
+                log.warn("Menu events cannot reach Mongo yet, retrying in {}s: {}", RETRY_DELAY.toSeconds(), e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Renew or take over the change stream lease.
+     * @return true while this node owns the stream
+     */
+    boolean holdLease() {
+        long now = System.currentTimeMillis();
+        try {
+            positions().updateOne(
+                    and(eq("_id", POSITION_ID),
+                            or(eq("owner", instanceId), lt("leaseUntil", new Date(now)), exists("owner", false))),
+                    Updates.combine(Updates.set("owner", instanceId), Updates.set("leaseUntil", new Date(now + leaseMs))),
+                    new UpdateOptions().upsert(true));
+        } catch (MongoServerException e) {
+            // the filter missed because another node holds the lease, so the upsert hit its _id
+            if (ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                if (leading) {
+                    log.warn("Lost the menu events lease");
+                }
+                leading = false;
+                return false;
+            }
+            throw e;
+        }
+        if (!leading) {
+            log.info("Acquired the menu events lease as {}", instanceId);
+        }
+        leading = true;
+        leaseRenewedAt = now;
+        return true;
+    }
+
+    private void lead() throws InterruptedException, ExecutionException, TimeoutException {
+        if (!preImages) {
+            preImages = enablePreImages();
+        }
+        if (cursor == null) {
+            cursor = openCursor();
+        }
+        while (running) {
+            if (System.currentTimeMillis() - leaseRenewedAt > leaseMs / 3 && !holdLease()) {
+                closeQuietly();
+                return;
+            }
+            ChangeStreamDocument<Document> change = cursor.tryNext();
+            if (change != null) {
+                relay(change);
+            }
+        }
+    }
+
+    /**
+     * Send one change and store its resume token once Kafka has acknowledged it.
+     * @param change change read from the stream
+     */
+    void relay(ChangeStreamDocument<Document> change) throws InterruptedException, ExecutionException, TimeoutException {
+        MenuEvent event = toEvent(change);
+        if (event != null) {
+            kafkaTemplate.send(MENU_TOPIC, event.getItemId(), event).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        savePosition(change.getResumeToken());
+    }
+
+    private boolean enablePreImages() {
+        try {
+            mongoTemplate.getDb().runCommand(new Document("collMod", COLLECTION)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Change stream pre-images unavailable on {}; availability changes published as UPDATED: {}",
+                    COLLECTION, e.getMessage());
+            return false;
+        }
+    }
+
+    MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+        List<Bson> pipeline = List.of(Aggregates.match(Filters.in("operationType",
+                List.of("insert", "update", "replace", "delete"))));
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(COLLECTION)
+                .watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP);
+        if (preImages) {
+            stream = stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+        BsonDocument position = loadPosition();
+        if (position != null) {
+            stream = stream.resumeAfter(position);
+        }
+        return stream.cursor();
+    }
+
+    MenuEvent toEvent(ChangeStreamDocument<Document> change) {
+        OperationType operation = change.getOperationType();
+        if (operation == OperationType.DELETE) {
+            return MenuEvent.builder()
+                    .type(MenuEventType.DELETED)
+                    .itemId(change.getDocumentKey().get("_id").asObjectId().getValue().toHexString())
+                    .timestamp(Instant.now())
+                    .build();
+        }
+        Document document = change.getFullDocument();
+        if (document == null) {
+            // updated and then deleted before the lookup; the delete follows
+            return null;
+        }
+        MenuItems item = mongoTemplate.getConverter().read(MenuItems.class, document);
+        if (operation == OperationType.INSERT) {
+            return toEvent(MenuEventType.CREATED, item);
+        }
+        if (onlyAvailabilityChanged(change.getFullDocumentBeforeChange(), document)) {
+            return MenuEvent.builder()
+                    .type(MenuEventType.AVAILABILITY_CHANGED)
+                    .itemId(item.getId())
+                    .available(item.isAvailable())
+                    .timestamp(Instant.now())
+                    .build();
+        }
+        return toEvent(MenuEventType.UPDATED, item);
+    }
+
+    private static boolean onlyAvailabilityChanged(Document before, Document after) {
+        if (before == null || Objects.equals(before.get("available"), after.get("available"))) {
+            return false;
+        }
+        Document rest = new Document(before);
+        rest.put("available", after.get("available"));
+        return rest.equals(after);
+    }
+
+    private static MenuEvent toEvent(MenuEventType type, MenuItems item) {
+        return MenuEvent.builder()
+                .type(type)
+                .itemId(item.getId())
+                .name(item.getName())
+                .categoryType(item.getCategoryType())
+                .price(item.getPrice())
+                .available(item.isAvailable())
+                .veg(item.isVeg())
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private BsonDocument loadPosition() {
+        Document position = positions().find(eq("_id", POSITION_ID)).first();
+        if (position == null || position.get("token") == null) {
+            return null;
+        }
+        return position.get("token", Document.class).toBsonDocument();
+    }
+
+    private void savePosition(BsonDocument token) {
+        long matched = positions().updateOne(and(eq("_id", POSITION_ID), eq("owner", instanceId)),
+                Updates.combine(Updates.set("token", token), Updates.set("updatedAt", new Date()))).getMatchedCount();
+        if (matched == 0) {
+            // another node took the stream over and resumes from its own position
+            leading = false;
+            throw new IllegalStateException("Menu events lease lost before storing the resume token");
+        }
+    }
+
+    private MongoCollection<Document> positions() {
+        return mongoTemplate.getCollection(POSITIONS);
+    }
+
+    private void closeQuietly() {
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> current = cursor;
+        cursor = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (RuntimeException e) {
+                log.debug("Ignoring error closing change stream: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.restaurant.menu_service.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.restaurant.menu_service.cache.MenuCacheNames;
+import com.restaurant.menu_service.dto.MenuImportError;
+import com.restaurant.menu_service.dto.MenuImportResult;
+import com.restaurant.menu_service.dto.MenuItemRequest;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.mapper.MenuItemRequestToMenuItemsMapper;
+import com.restaurant.menu_service.services.Interface.IMenuEventPublisher;
+import com.restaurant.menu_service.services.Interface.IMenuImportService;
+import com.restaurant.menu_service.services.Interface.IMenuSearchService;
+import com.restaurant.menu_service.services.Interface.IMenuSnapshotService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams an import body row by row, so items are held one chunk at a time.
+ * Each chunk costs one query to find the items it replaces (matched by category
+ * and name) and one unordered bulk write; a failing row does not stop the rest
+ * of its chunk. Memory still grows with the input by one category and name key
+ * per row, kept to report duplicates within the import, and by at most
+ * 1000 reported errors.
+ *
+ * <p>The unique category_name index makes an insert fail when another import or
+ * addItem created the same item after the chunk was looked up; those rows are
+ * looked up again and written as replacements.
+ */
+@Slf4j
+@Service
+public class MenuImportService implements IMenuImportService {
+
+    private static final int MAX_CHUNK_SIZE = 1000;
+
+    private static final int MAX_ERRORS = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final IMenuSnapshotService menuSnapshotService;
+    private final IMenuSearchService menuSearchService;
+    private final IMenuEventPublisher menuEventPublisher;
+    private final int chunkSize;
+
+    public MenuImportService(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+            IMenuSnapshotService menuSnapshotService, IMenuSearchService menuSearchService,
+            IMenuEventPublisher menuEventPublisher, @Value("${menu.import.chunk-size:500}") int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.menuSnapshotService = menuSnapshotService;
+        this.menuSearchService = menuSearchService;
+        this.menuEventPublisher = menuEventPublisher;
+        this.chunkSize = Math.min(Math.max(chunkSize, 1), MAX_CHUNK_SIZE);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = { MenuCacheNames.ALL, MenuCacheNames.BY_CATEGORY, MenuCacheNames.FILTERED }, allEntries = true)
+    public MenuImportResult importItems(InputStream body) {
+        Progress progress = new Progress();
+        Map<String, Integer> seen = new HashMap<>(); // category + name -> first row
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int rowNumber = 0;
+
+        try (MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(body)) {
+            while (nodes.hasNextValue()) {
+                JsonNode node = nodes.nextValue();
+                rowNumber++;
+                Row row = toRow(rowNumber, node, seen, progress);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    write(chunk, progress, true);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // the stream cannot be resynchronised after a syntax error; keep what was read so far
+            String message = e instanceof JsonProcessingException jpe ? jpe.getOriginalMessage() : e.getMessage();
+            progress.fail(rowNumber + 1, null, "Malformed JSON, import stopped: " + message);
+        }
+        write(chunk, progress, true);
+        menuSnapshotService.invalidate();
+
+        log.info("Menu import: {} rows, {} created, {} updated, {} failed",
+                rowNumber, progress.created, progress.updated, progress.failed);
+        return MenuImportResult.builder()
+                .received(rowNumber)
+                .created(progress.created)
+                .updated(progress.updated)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private Row toRow(int rowNumber, JsonNode node, Map<String, Integer> seen, Progress progress) {
+        if (!node.isObject()) {
+            progress.fail(rowNumber, null, "Expected a JSON object");
+            return null;
+        }
+        MenuItemRequest req;
+        try {
+            req = objectMapper.treeToValue(node, MenuItemRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(rowNumber, node.path("name").asText(null), e.getOriginalMessage());
+            return null;
+        }
+
+        String error = validate(req);
+        if (error != null) {
+            progress.fail(rowNumber, req.getName(), error);
+            return null;
+        }
+        req.setName(req.getName().trim());
+        String key = req.getCategoryType() + "/" + req.getName();
+        Integer first = seen.putIfAbsent(key, rowNumber);
+        if (first != null) {
+            progress.fail(rowNumber, req.getName(), "Duplicate of row " + first);
+            return null;
+        }
+        return new Row(rowNumber, key, MenuItemRequestToMenuItemsMapper.toResponse(req));
+    }
+
+    private static String validate(MenuItemRequest req) {
+        if (req.getName() == null || req.getName().isBlank()) {
+            return "name is required";
+        }
+        if (req.getCategoryType() == null) {
+            return "categoryType is required";
+        }
+        if (!Double.isFinite(req.getPrice()) || req.getPrice() <= 0) {
+            return "price must be greater than 0";
+        }
+        return null;
+    }
+
+    private void write(List<Row> chunk, Progress progress, boolean retryConflicts) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<Integer> failed = new HashSet<>();
+        List<Row> conflicts = new ArrayList<>();
+        try {
+            Map<String, String> existing = existingIds(chunk);
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkMode.UNORDERED, MenuItems.class);
+            for (Row row : chunk) {
+                String id = existing.get(row.key);
+                row.created = id == null;
+                // ids are assigned here so every written row can be indexed and published
+                row.item.setId(row.created ? new ObjectId().toHexString() : id);
+                if (row.created) {
+                    bulk.insert(row.item);
+                } else {
+                    bulk.replaceOne(Query.query(Criteria.where("_id").is(id)), row.item);
+                }
+            }
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                Row row = chunk.get(error.getIndex());
+                failed.add(error.getIndex());
+                if (retryConflicts && row.created && ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                    conflicts.add(row);
+                } else {
+                    progress.fail(row.number, row.item.getName(), error.getMessage());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Menu import chunk of {} rows failed: {}", chunk.size(), e.getMessage());
+            for (Row row : chunk) {
+                progress.fail(row.number, row.item.getName(), "Write failed: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+
+        List<MenuItems> written = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (failed.contains(i)) {
+                continue;
+            }
+            Row row = chunk.get(i);
+            if (row.created) {
+                progress.created++;
+            } else {
+                progress.updated++;
+            }
+            written.add(row.item);
+            menuEventPublisher.itemSaved(row.item, row.created);
+        }
+        menuSearchService.indexAll(written);
+        // created concurrently since the lookup; the second lookup finds them
+        write(conflicts, progress, false);
+    }
+
+    private Map<String, String> existingIds(List<Row> chunk) {
+        Set<Object> categories = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        for (Row row : chunk) {
+            categories.add(row.item.getCategoryType());
+            names.add(row.item.getName());
+        }
+        Query query = Query.query(Criteria.where("categoryType").in(categories).and("name").in(names));
+        query.fields().include("name", "categoryType");
+
+        Map<String, String> ids = new HashMap<>();
+        for (MenuItems item : mongoTemplate.find(query, MenuItems.class)) {
+            ids.putIfAbsent(item.getCategoryType() + "/" + item.getName(), item.getId());
+        }
+        return ids;
+    }
+
+    private static final class Row {
+
+        private final int number;
+        private final String key;
+        private final MenuItems item;
+        private boolean created;
+
+        private Row(int number, String key, MenuItems item) {
+            this.number = number;
+            this.key = key;
+            this.item = item;
+        }
+    }
+
+    private static final class Progress {
+
+        private final List<MenuImportError> errors = new ArrayList<>();
+        private int created;
+        private int updated;
+        private int failed;
+
+        private void fail(int row, String name, String message) {
+            failed++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new MenuImportError(row, name, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.restaurant.menu_service.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.repository.MenuItemsRepo;
+import com.restaurant.menu_service.search.MenuSearchIndex;
+import com.restaurant.menu_service.services.Interface.IMenuSearchService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves menu search from a {@link MenuSearchIndex} held in memory. Items saved
+ * on this node are indexed immediately and their ids are published on the
+ * search updates channel as {@code "<node> UPSERT <id>,<id>"}; other nodes fetch
+ * just those items and update their index in place. A node ignores its own
+ * messages.
+ *
+ * <p>Mongo is never read on the request path. The full index is loaded on a
+ * background thread at startup and again every {@code full-reload-minutes}, to
+ * pick up messages missed while Redis was unreachable. Until the first load
+ * succeeds, searches return what has been indexed so far.
+ */
+@Slf4j
+@Service
+public class MenuSearchService implements IMenuSearchService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final String UPSERT = "UPSERT";
+
+    private static final long RETRY_SECONDS = 10;
+
+    private final MenuItemsRepo menuItemsRepo;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String updatesChannel;
+
+    private final long fullReloadMinutes;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final MenuSearchIndex index = new MenuSearchIndex();
+
+    // loads and remote updates run here one at a time, so they never interleave
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("menu-search-index").daemon().factory());
+
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    // local saves made while a full load runs; re-applied so the load cannot overwrite them
+    private final Queue<MenuItems> savedDuringReload = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean reloading;
+
+    public MenuSearchService(MenuItemsRepo menuItemsRepo, StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${menu.search.updates-channel:menu-search-updates}") String updatesChannel,
+            @Value("${menu.search.full-reload-minutes:30}") long fullReloadMinutes) {
+        this.menuItemsRepo = menuItemsRepo;
+        this.redisTemplate = redisTemplate;
+        this.updatesChannel = updatesChannel;
+        this.fullReloadMinutes = fullReloadMinutes;
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onUpdate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(updatesChannel));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.scheduleWithFixedDelay(this::queueReload, 0, fullReloadMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    @Override
+    public List<MenuSearchHit> search(String query, int limit) {
+        if (!loaded.get()) {
+            queueReload();
+        }
+        return index.search(query, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+
+    @Override
+    public void index(MenuItems item) {
+        indexAll(List.of(item));
+    }
+
+    @Override
+    public void indexAll(Collection<MenuItems> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        for (MenuItems item : items) {
+            index.put(item);
+            if (reloading) {
+                savedDuringReload.add(item);
+            }
+        }
+        publish(items.stream().map(MenuItems::getId).toList());
+    }
+
+    void onUpdate(String message) {
+        String[] parts = message.split(" ", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        if (!UPSERT.equals(parts[1])) {
+            log.warn("Ignoring menu search update with unknown operation {}", parts[1]);
+            return;
+        }
+        List<String> ids = List.of(parts[2].split(","));
+        worker.execute(() -> apply(ids));
+    }
+
+    private void apply(List<String> ids) {
+        try {
+            Set<String> missing = new HashSet<>(ids);
+            for (MenuItems item : menuItemsRepo.findAllById(ids)) {
+                index.put(item);
+                missing.remove(item.getId());
+            }
+            missing.forEach(index::remove);
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply menu search update for {} items, reloading: {}", ids.size(), e.getMessage());
+            queueReload();
+        }
+    }
+
+    private void queueReload() {
+        if (reloadQueued.compareAndSet(false, true)) {
+            worker.execute(this::reload);
+        }
+    }
+
+    private void reload() {
+        reloadQueued.set(false);
+        savedDuringReload.clear();
+        reloading = true;
+        try {
+            List<MenuItems> items = menuItemsRepo.findAll();
+            index.replaceAll(items);
+            MenuItems saved;
+            while ((saved = savedDuringReload.poll()) != null) {
+                index.put(saved);
+            }
+            loaded.set(true);
+            log.info("Menu search index loaded with {} items", items.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to load the menu search index, retrying in {}s: {}", RETRY_SECONDS, e.getMessage());
+            // stays queued until the retry runs, so searches do not trigger loads in between
+            reloadQueued.set(true);
+            worker.schedule(this::reload, RETRY_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            reloading = false;
+        }
+    }
+
+    private void publish(List<String> ids) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(updatesChannel, nodeId + " " + UPSERT + " " + String.join(",", ids));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish menu search update for {} items: {}", ids.size(), e.getMessage());
+        }
+    }
+}
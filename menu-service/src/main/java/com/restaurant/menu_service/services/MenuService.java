@@ -1,12 +1,18 @@
 package com.restaurant.menu_service.services;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import com.restaurant.menu_service.cache.MenuCacheNames;
 import com.restaurant.menu_service.dto.MenuItemRequest;
 import com.restaurant.menu_service.dto.MenuItemsResponse;
 import com.restaurant.menu_service.entity.MenuItems;
@@ -14,27 +20,51 @@ import com.restaurant.menu_service.enums.CategoryEnum;
 import com.restaurant.menu_service.mapper.MenuItemRequestToMenuItemsMapper;
 import com.restaurant.menu_service.mapper.MenuItemToResponseMapper;
 import com.restaurant.menu_service.repository.MenuItemsRepo;
+import com.restaurant.menu_service.services.Interface.IMenuEventPublisher;
+import com.restaurant.menu_service.services.Interface.IMenuSearchService;
 import com.restaurant.menu_service.services.Interface.IMenuService;
+import com.restaurant.menu_service.services.Interface.IMenuSnapshotService;
 
 @Service
 public class MenuService implements IMenuService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private MenuItemsRepo menuItemsRepo;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private IMenuSnapshotService menuSnapshotService;
+
+    @Autowired
+    private IMenuSearchService menuSearchService;
+
+    @Autowired
+    private IMenuEventPublisher menuEventPublisher;
+
     @Override
+    @Cacheable(cacheNames = MenuCacheNames.ALL, key = "'all'", sync = true)
     public List<MenuItemsResponse> getAll() {
         List<MenuItems> items= menuItemsRepo.findAll();
         return MenuItemToResponseMapper.toResponseList(items);
     }
 
     @Override
+    @CacheEvict(cacheNames = { MenuCacheNames.ALL, MenuCacheNames.BY_CATEGORY, MenuCacheNames.FILTERED }, allEntries = true)
     public boolean addItem(MenuItemRequest req) {
         try {
             
             MenuItems item =  MenuItemRequestToMenuItemsMapper.toResponse(req);
 
             MenuItems savedItem = menuItemsRepo.save(item);
+            menuSnapshotService.invalidate();
+            if (savedItem != null && savedItem.getId() != null) {
+                menuSearchService.index(savedItem);
+                menuEventPublisher.itemSaved(savedItem, true);
+            }
 
             // Confirm by checking if saved item has a valid ID (Mongo assigns it)
             return savedItem != null && savedItem.getId() != null;
@@ -46,41 +76,40 @@ public class MenuService implements IMenuService {
     }
 
     @Override
+    @Cacheable(cacheNames = MenuCacheNames.BY_CATEGORY, sync = true)
     public List<MenuItemsResponse> getItemByCategory(CategoryEnum type) {
         List<MenuItems> fetched= menuItemsRepo.findByCategoryType(type);
         return MenuItemToResponseMapper.toResponseList(fetched);
     }
 
-    public List<MenuItemsResponse> getFilteredItems(Double price, Boolean available, Boolean veg, String sort){
-        List<MenuItems> items = menuItemsRepo.findAll();
-
-        if (price != null) {
-            items = items.stream()
-                    .filter(item -> item.getPrice() <= price)
-                    .collect(Collectors.toList());
+    @Override
+    @Cacheable(cacheNames = MenuCacheNames.FILTERED, sync = true)
+    public List<MenuItemsResponse> getFilteredItems(CategoryEnum category, Double price, Boolean available, Boolean veg,
+            String sort, Integer page, Integer size) {
+
+        // equality filters first and the price range last, matching the compound indexes on MenuItems
+        Criteria criteria = new Criteria();
+        if (category != null) {
+            criteria.and("categoryType").is(category);
         }
-
         if (available != null) {
-            items = items.stream()
-                    .filter(item -> item.isAvailable() == available)
-                    .collect(Collectors.toList());
+            criteria.and("available").is(available);
         }
-
         if (veg != null) {
-            items = items.stream()
-                    .filter(item -> item.isVeg() == veg)
-                    .collect(Collectors.toList());
+            criteria.and("Veg").is(veg);
         }
-
-        if (sort.equalsIgnoreCase("desc")) {
-            items.sort(Comparator.comparingDouble(MenuItems::getPrice).reversed());
-        } else {
-            items.sort(Comparator.comparingDouble(MenuItems::getPrice));
+        if (price != null) {
+            criteria.and("price").lte(price);
         }
 
+        Sort.Direction direction = "desc".equalsIgnoreCase(sort) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // _id breaks price ties so pages do not overlap
+        Query query = new Query(criteria).with(Sort.by(direction, "price").and(Sort.by(Sort.Direction.ASC, "_id")));
+        if (size != null) {
+            int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+            query.with(PageRequest.of(page != null ? Math.max(page, 0) : 0, pageSize));
+        }
 
-        List<MenuItemsResponse> item = MenuItemToResponseMapper.toResponseList(items);
-
-        return item;
+        return MenuItemToResponseMapper.toResponseList(mongoTemplate.find(query, MenuItems.class));
     }
 }
@@ -0,0 +1,168 @@
+package com.restaurant.menu_service.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menu_service.dto.MenuItemsResponse;
+import com.restaurant.menu_service.dto.MenuLookupItem;
+import com.restaurant.menu_service.dto.MenuLookupResponse;
+import com.restaurant.menu_service.dto.MenuSnapshot;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.mapper.MenuItemToLookupItemMapper;
+import com.restaurant.menu_service.mapper.MenuItemToResponseMapper;
+import com.restaurant.menu_service.repository.MenuItemsRepo;
+import com.restaurant.menu_service.services.Interface.IMenuSnapshotService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the full menu serialized to JSON and gzip, so serving it is a byte-array
+ * write. Menu writes on any node mark the snapshot stale (locally, or through the
+ * cache invalidation channel); the next request rebuilds it once. The ETag is a
+ * hash of the JSON, so every node answers the same conditional GET the same way.
+ * The same snapshot carries an id index used by {@link #lookup}.
+ */
+@Slf4j
+@Service
+public class MenuSnapshotService implements IMenuSnapshotService {
+
+    private final MenuItemsRepo menuItemsRepo;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+
+    private volatile MenuSnapshot snapshot;
+
+    public MenuSnapshotService(MenuItemsRepo menuItemsRepo, ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${menu.cache.invalidation-channel:menu-cache-invalidation}") String invalidationChannel) {
+        this.menuItemsRepo = menuItemsRepo;
+        this.objectMapper = objectMapper;
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener((message, pattern) -> invalidate(), new ChannelTopic(invalidationChannel));
+        }
+    }
+
+    @Override
+    public MenuSnapshot current() {
+        if (stale.get()) {
+            rebuild();
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void invalidate() {
+        stale.set(true);
+    }
+
+    private synchronized void rebuild() {
+        // cleared before reading so a write landing during the rebuild marks it stale again
+        if (!stale.getAndSet(false)) {
+            return;
+        }
+        boolean built = false;
+        try {
+            List<MenuItems> menuItems = menuItemsRepo.findAll(Sort.by("id"));
+            List<MenuItemsResponse> items = MenuItemToResponseMapper.toResponseList(menuItems);
+            byte[] json = serialize(items);
+            String etag = etag(json);
+
+            MenuSnapshot previous = snapshot;
+            if (previous == null || !previous.getEtag().equals(etag)) {
+                snapshot = MenuSnapshot.builder()
+                        .version(previous != null ? previous.getVersion() + 1 : 1)
+                        .etag(etag)
+                        .json(json)
+                        .gzip(gzip(json))
+                        .byId(index(menuItems))
+                        .itemCount(items.size())
+                        .build();
+                log.info("Menu snapshot v{} built: {} items, {} bytes json, {} bytes gzip", snapshot.getVersion(),
+                        items.size(), json.length, snapshot.getGzip().length);
+            }
+            built = true;
+        } finally {
+            if (!built) {
+                stale.set(true);
+            }
+        }
+    }
+
+    @Override
+    public MenuLookupResponse lookup(Collection<String> ids) {
+        MenuSnapshot current = current();
+        List<MenuLookupItem> found = new ArrayList<>(ids.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            MenuLookupItem item = current.getById().get(id);
+            if (item != null) {
+                found.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return MenuLookupResponse.builder()
+                .version(current.getVersion())
+                .etag(current.getEtag())
+                .items(found)
+                .missing(missing)
+                .build();
+    }
+
+    private static Map<String, MenuLookupItem> index(List<MenuItems> menuItems) {
+        Map<String, MenuLookupItem> byId = new HashMap<>(menuItems.size() * 2);
+        for (MenuItems item : menuItems) {
+            byId.put(item.getId(), MenuItemToLookupItemMapper.toLookupItem(item));
+        }
+        return Collections.unmodifiableMap(byId);
+    }
+
+    private byte[] serialize(List<MenuItemsResponse> items) {
+        try {
+            return objectMapper.writeValueAsBytes(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize menu snapshot", e);
+        }
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
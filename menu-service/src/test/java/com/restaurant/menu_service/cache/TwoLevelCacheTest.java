@@ -0,0 +1,147 @@
+package com.restaurant.menu_service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong generation;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("menu-all");
+        published = new ArrayList<>();
+        meterRegistry = new SimpleMeterRegistry();
+        generation = new AtomicLong();
+    }
+
+    @Test
+    void loadsOnceThenServesFromNearCache() {
+        TwoLevelCache cache = cache(remote);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get("all", () -> "menu-" + loads.incrementAndGet())).isEqualTo("menu-1");
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remote.get("all").get()).isEqualTo("menu-1");
+        assertThat(count("hit", "near")).isEqualTo(2);
+        assertThat(count("miss", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void secondNodeIsFilledFromRedisAndInvalidatedByTheFirst() {
+        TwoLevelCache first = cache(remote);
+        TwoLevelCache second = cache(remote);
+        first.get("all", () -> "v1");
+
+        assertThat(second.get("all", () -> "unexpected")).isEqualTo("v1");
+        assertThat(count("hit", "redis")).isEqualTo(1);
+
+        first.clear();
+        assertThat(published).containsExactly("menu-all");
+        // what the invalidation listener does on the second node
+        second.invalidateNear();
+
+        assertThat(second.get("all", () -> "v2")).isEqualTo("v2");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        TwoLevelCache cache = cache(remote);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("all", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "menu";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("all", () -> {
+            loads.incrementAndGet();
+            return "unexpected";
+        }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("menu");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("menu");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void valueLoadedAcrossAClearIsNotStored() {
+        TwoLevelCache first = cache(remote);
+        TwoLevelCache second = cache(remote);
+
+        // the second node clears while the first is still reading the old menu
+        assertThat(first.get("all", () -> {
+            second.clear();
+            return "stale";
+        })).isEqualTo("stale");
+
+        assertThat(remote.get("all")).isNull();
+        assertThat(first.get("all", () -> "fresh")).isEqualTo("fresh");
+        assertThat(remote.get("all").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void readsThroughWhenRedisIsDown() {
+        TwoLevelCache cache = cache(new ConcurrentMapCache("menu-all") {
+            @Override
+            public ValueWrapper get(Object key) {
+                throw new IllegalStateException("connection refused");
+            }
+
+            @Override
+            public void put(Object key, Object value) {
+                throw new IllegalStateException("connection refused");
+            }
+        });
+
+        assertThat(cache.get("all", () -> "from-mongo")).isEqualTo("from-mongo");
+        assertThat(cache.get("all", () -> "unexpected")).isEqualTo("from-mongo");
+    }
+
+    private TwoLevelCache cache(ConcurrentMapCache remoteCache) {
+        // one counter for every node, as the Redis-backed generation is
+        CacheGeneration sharedGeneration = new CacheGeneration() {
+            @Override
+            public long current() {
+                return generation.get();
+            }
+
+            @Override
+            public void advance() {
+                generation.incrementAndGet();
+            }
+        };
+        return new TwoLevelCache("menu-all", Caffeine.newBuilder().build(), remoteCache, published::add,
+                sharedGeneration, meterRegistry);
+    }
+
+    private double count(String result, String level) {
+        return meterRegistry.get("menu.cache.gets").tag("result", result).tag("level", level).counter().count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.restaurant.menu_service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+
+/**
+ * Query latency of {@link MenuSearchIndex} over a 2,000 item menu. Not part of
+ * the regular test run; execute with
+ * {@code mvn test -Dtest=MenuSearchIndexBenchmark}.
+ */
+class MenuSearchIndexBenchmark {
+
+    private static final int ITEMS = 2_000;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    void queryLatencyOnALargeMenu() {
+        String[] dishes = { "Dosa", "Idli", "Paneer", "Biryani", "Noodles", "Pizza", "Pasta", "Burger", "Lassi", "Soup" };
+        String[] styles = { "Masala", "Butter", "Schezwan", "Tandoori", "Cheese", "Classic", "Spicy", "Garlic" };
+        List<MenuItems> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new MenuItems(String.valueOf(i), styles[i % styles.length] + " " + dishes[i % dishes.length] + " " + i,
+                    "House special number " + i, 100, true, CategoryEnum.values()[i % CategoryEnum.values().length], true));
+        }
+        MenuSearchIndex index = new MenuSearchIndex();
+        index.replaceAll(items);
+        String[] queries = { "masala do", "paneer tika", "schezwan noodl", "garlic", "biriyani" };
+
+        for (int i = 0; i < WARMUP; i++) {
+            index.search(queries[i % queries.length], 20);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            index.search(queries[i % queries.length], 20);
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        System.out.printf("%nmenu search: %.1f us per query over %d items%n", micros, ITEMS);
+    }
+}
@@ -0,0 +1,69 @@
+package com.restaurant.menu_service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+
+class MenuSearchIndexTest {
+
+    private MenuSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuSearchIndex();
+        index.replaceAll(List.of(
+                item("1", "Masala Dosa", "Crisp rice crepe with potato filling", CategoryEnum.SOUTH_INDIAN),
+                item("2", "Paneer Tikka", "Grilled cottage cheese with masala", CategoryEnum.STARTER),
+                item("3", "Margherita Pizza", "Tomato, mozzarella and basil", CategoryEnum.ITALIAN),
+                item("4", "Mango Lassi", "Sweet yogurt drink", CategoryEnum.DRINKS)));
+    }
+
+    @Test
+    void lastWordMatchesAsPrefix() {
+        assertThat(ids(index.search("mas", 10))).containsExactly("1", "2");
+        assertThat(ids(index.search("marg", 10))).containsExactly("3");
+    }
+
+    @Test
+    void nameMatchesOutrankDescriptionMatches() {
+        // "masala" is in item 1's name and only in item 2's description
+        assertThat(ids(index.search("masala", 10))).containsExactly("1", "2");
+    }
+
+    @Test
+    void smallTyposAreTolerated() {
+        assertThat(ids(index.search("panner tika", 10))).containsExactly("2");
+        assertThat(ids(index.search("margarita", 10))).containsExactly("3");
+    }
+
+    @Test
+    void categoryWordsAreSearchable() {
+        assertThat(ids(index.search("south indian", 10))).containsExactly("1");
+    }
+
+    @Test
+    void itemsAreUpdatedAndRemovedIncrementally() {
+        index.put(item("4", "Rose Falooda", "Chilled dessert drink", CategoryEnum.DRINKS));
+        assertThat(index.search("mango", 10)).isEmpty();
+        assertThat(ids(index.search("falooda", 10))).containsExactly("4");
+
+        index.remove("4");
+        assertThat(index.search("falooda", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    private static List<String> ids(List<MenuSearchHit> hits) {
+        return hits.stream().map(MenuSearchHit::getId).toList();
+    }
+
+    private static MenuItems item(String id, String name, String description, CategoryEnum category) {
+        return new MenuItems(id, name, description, 100, true, category, true);
+    }
+}
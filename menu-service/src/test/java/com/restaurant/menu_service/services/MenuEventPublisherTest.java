@@ -0,0 +1,239 @@
+package com.restaurant.menu_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.result.UpdateResult;
+import com.restaurant.menu_service.dto.MenuEvent;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+import com.restaurant.menu_service.enums.MenuEventType;
+
+class MenuEventPublisherTest {
+
+    private static final String ITEM_ID = "65f000000000000000000042";
+    private static final BsonDocument TOKEN = new BsonDocument("_data", new BsonString("8265F0"));
+
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private MongoTemplate mongoTemplate;
+    private MongoDatabase database;
+    private MongoCollection<Document> menuItems;
+    private MongoCollection<Document> positions;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(new CompletableFuture<>());
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.afterPropertiesSet();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        database = mock(MongoDatabase.class);
+        menuItems = mock(MongoCollection.class);
+        positions = mock(MongoCollection.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.getDb()).thenReturn(database);
+        when(mongoTemplate.getCollection("menu_items")).thenReturn(menuItems);
+        when(mongoTemplate.getCollection("menu_event_positions")).thenReturn(positions);
+    }
+
+    @Test
+    void writePathPublishesCompactEventKeyedByItemId() {
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.WRITE_PATH);
+        publisher.start();
+
+        publisher.itemSaved(item(), true);
+
+        MenuEvent event = sentEvent();
+        assertThat(event.getType()).isEqualTo(MenuEventType.CREATED);
+        assertThat(event.getName()).isEqualTo("Masala Dosa");
+        assertThat(event.getPrice()).isEqualTo(120.0);
+        assertThat(event.getAvailable()).isTrue();
+    }
+
+    @Test
+    void autoFallsBackToWritePathOnStandaloneServer() {
+        when(database.runCommand(any(Bson.class))).thenReturn(new Document("isWritablePrimary", true));
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.AUTO);
+
+        assertThat(publisher.resolveSource()).isFalse();
+        publisher.itemSaved(item(), false);
+
+        assertThat(sentEvent().getType()).isEqualTo(MenuEventType.UPDATED);
+    }
+
+    @Test
+    void autoLeavesPublishingToTheChangeStreamOnAReplicaSet() {
+        when(database.runCommand(any(Bson.class))).thenReturn(new Document("setName", "rs0"));
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.AUTO);
+
+        assertThat(publisher.resolveSource()).isTrue();
+        publisher.itemSaved(item(), false);
+
+        verify(kafkaTemplate, never()).send(any(String.class), any(String.class), any());
+    }
+
+    @Test
+    void changeStreamMapsInsertReplaceAndDelete() {
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.CHANGE_STREAM);
+
+        MenuEvent created = publisher.toEvent(change(OperationType.INSERT, null, document(120, true)));
+        assertThat(created.getType()).isEqualTo(MenuEventType.CREATED);
+        assertThat(created.getItemId()).isEqualTo(ITEM_ID);
+        assertThat(created.getName()).isEqualTo("Masala Dosa");
+
+        MenuEvent updated = publisher.toEvent(change(OperationType.REPLACE, null, document(130, true)));
+        assertThat(updated.getType()).isEqualTo(MenuEventType.UPDATED);
+        assertThat(updated.getPrice()).isEqualTo(130.0);
+
+        ChangeStreamDocument<Document> delete = change(OperationType.DELETE, null, null);
+        when(delete.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(new ObjectId(ITEM_ID))));
+        MenuEvent deleted = publisher.toEvent(delete);
+        assertThat(deleted.getType()).isEqualTo(MenuEventType.DELETED);
+        assertThat(deleted.getItemId()).isEqualTo(ITEM_ID);
+    }
+
+    @Test
+    void replaceIsAnAvailabilityChangeOnlyWhenNothingElseDiffersFromThePreImage() {
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.CHANGE_STREAM);
+
+        MenuEvent availability = publisher.toEvent(change(OperationType.REPLACE, document(120, true), document(120, false)));
+        assertThat(availability.getType()).isEqualTo(MenuEventType.AVAILABILITY_CHANGED);
+        assertThat(availability.getAvailable()).isFalse();
+        assertThat(availability.getName()).isNull();
+
+        MenuEvent both = publisher.toEvent(change(OperationType.REPLACE, document(120, true), document(130, false)));
+        assertThat(both.getType()).isEqualTo(MenuEventType.UPDATED);
+    }
+
+    @Test
+    void tokenIsStoredOnlyAfterKafkaAcknowledges() throws Exception {
+        when(positions.updateOne(any(Bson.class), any(Bson.class), any(UpdateOptions.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(positions.updateOne(any(Bson.class), any(Bson.class))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.CHANGE_STREAM);
+        assertThat(publisher.holdLease()).isTrue();
+        ChangeStreamDocument<Document> change = change(OperationType.REPLACE, null, document(130, true));
+
+        when(kafkaTemplate.send(any(String.class), any(String.class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        assertThatThrownBy(() -> publisher.relay(change)).isInstanceOf(ExecutionException.class);
+        verify(positions, never()).updateOne(any(Bson.class), any(Bson.class));
+
+        when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(CompletableFuture.completedFuture(null));
+        publisher.relay(change);
+        ArgumentCaptor<Bson> update = ArgumentCaptor.forClass(Bson.class);
+        verify(positions).updateOne(any(Bson.class), update.capture());
+        assertThat(update.getValue().toBsonDocument().getDocument("$set").getDocument("token")).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void aNodeThatLosesTheLeaseStopsStoringTokens() {
+        when(positions.updateOne(any(Bson.class), any(Bson.class), any(UpdateOptions.class)))
+                .thenThrow(new MongoWriteException(new WriteError(11000, "E11000 duplicate key", new BsonDocument()),
+                        new ServerAddress(), Set.of()));
+        when(positions.updateOne(any(Bson.class), any(Bson.class))).thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(kafkaTemplate.send(any(String.class), any(String.class), any())).thenReturn(CompletableFuture.completedFuture(null));
+        MenuEventPublisher publisher = publisher(MenuEventPublisher.Source.CHANGE_STREAM);
+
+        assertThat(publisher.holdLease()).isFalse();
+        assertThatThrownBy(() -> publisher.relay(change(OperationType.REPLACE, null, document(130, true))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resumesFromTheStoredToken() {
+        FindIterable<Document> stored = mock(FindIterable.class);
+        ChangeStreamIterable<Document> stream = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mock(MongoChangeStreamCursor.class);
+        when(positions.find(any(Bson.class))).thenReturn(stored);
+        when(stored.first()).thenReturn(new Document("_id", "menu-events").append("token", new Document("_data", "8265F0")));
+        when(menuItems.watch(anyList())).thenReturn(stream);
+        when(stream.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(stream);
+        when(stream.resumeAfter(TOKEN)).thenReturn(stream);
+        when(stream.cursor()).thenReturn(cursor);
+
+        assertThat(publisher(MenuEventPublisher.Source.CHANGE_STREAM).openCursor()).isSameAs(cursor);
+
+        verify(stream).resumeAfter(TOKEN);
+    }
+
+    private MenuEventPublisher publisher(MenuEventPublisher.Source source) {
+        return new MenuEventPublisher(mongoTemplate, kafkaTemplate, source, 1000, 30000);
+    }
+
+    private MenuEvent sentEvent() {
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq("menu-events"), eq(ITEM_ID), event.capture());
+        return (MenuEvent) event.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> change(OperationType operation, Document before, Document after) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(operation);
+        when(change.getFullDocumentBeforeChange()).thenReturn(before);
+        when(change.getFullDocument()).thenReturn(after);
+        when(change.getResumeToken()).thenReturn(TOKEN);
+        return change;
+    }
+
+    private static Document document(double price, boolean available) {
+        return new Document("_id", new ObjectId(ITEM_ID))
+                .append("name", "Masala Dosa")
+                .append("description", "")
+                .append("price", price)
+                .append("available", available)
+                .append("categoryType", CategoryEnum.SOUTH_INDIAN.name())
+                .append("Veg", true);
+    }
+
+    private static MenuItems item() {
+        return new MenuItems(ITEM_ID, "Masala Dosa", "", 120, true, CategoryEnum.SOUTH_INDIAN, true);
+    }
+}
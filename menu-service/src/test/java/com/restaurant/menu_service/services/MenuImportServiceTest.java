@@ -0,0 +1,166 @@
+package com.restaurant.menu_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import com.restaurant.menu_service.dto.MenuImportError;
+import com.restaurant.menu_service.dto.MenuImportResult;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+import com.restaurant.menu_service.services.Interface.IMenuEventPublisher;
+import com.restaurant.menu_service.services.Interface.IMenuSearchService;
+import com.restaurant.menu_service.services.Interface.IMenuSnapshotService;
+
+class MenuImportServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulk;
+    private IMenuSnapshotService snapshotService;
+    private IMenuSearchService searchService;
+    private List<MenuItems> existing;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulk = mock(BulkOperations.class);
+        snapshotService = mock(IMenuSnapshotService.class);
+        searchService = mock(IMenuSearchService.class);
+        existing = new ArrayList<>();
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, MenuItems.class)).thenReturn(bulk);
+        when(mongoTemplate.find(any(Query.class), eq(MenuItems.class))).thenAnswer(invocation -> List.copyOf(existing));
+    }
+
+    @Test
+    void jsonArrayInsertsNewItemsAndReplacesExistingOnes() {
+        MenuItems dosa = new MenuItems("65f000000000000000000001", "Masala Dosa", "", 100, true, CategoryEnum.SOUTH_INDIAN, true);
+        existing.add(dosa);
+
+        MenuImportResult result = service(500).importItems(body("""
+                [{"name": "Masala Dosa", "categoryType": "SOUTH_INDIAN", "price": 120, "available": true, "Veg": true},
+                 {"name": "Idli", "categoryType": "SOUTH_INDIAN", "price": 60, "available": true, "Veg": true}]
+                """));
+
+        assertThat(result.getReceived()).isEqualTo(2);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getErrors()).isEmpty();
+        verify(bulk).replaceOne(any(Query.class), any(MenuItems.class));
+        verify(bulk).insert(any(MenuItems.class));
+        verify(bulk).execute();
+        verify(searchService).indexAll(argThat(items -> items.size() == 2));
+        verify(snapshotService).invalidate();
+    }
+
+    @Test
+    void ndjsonRowsAreValidatedAndReportedByPosition() {
+        MenuImportResult result = service(500).importItems(body("""
+                {"name": "Paneer Tikka", "categoryType": "STARTER", "price": 250}
+                {"name": "", "categoryType": "STARTER", "price": 250}
+                {"name": "Soup", "categoryType": "SOUPS", "price": 90}
+                {"name": "Cola", "categoryType": "DRINKS", "price": 0}
+                {"name": "Paneer Tikka", "categoryType": "STARTER", "price": 260}
+                """));
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(MenuImportError::getRow).containsExactly(2, 3, 4, 5);
+        assertThat(result.getErrors().get(3).getMessage()).isEqualTo("Duplicate of row 1");
+    }
+
+    @Test
+    void writesInChunksAndKeepsTheRestOfAChunkWhenOneRowFails() {
+        BulkOperationException invalid = mock(BulkOperationException.class);
+        when(invalid.getErrors()).thenReturn(List.of(new BulkWriteError(121, "Document failed validation", new BsonDocument(), 0)));
+        when(bulk.execute()).thenReturn(null).thenThrow(invalid);
+
+        MenuImportResult result = service(2).importItems(body("""
+                {"name": "A", "categoryType": "CLASSIC", "price": 10}
+                {"name": "B", "categoryType": "CLASSIC", "price": 10}
+                {"name": "C", "categoryType": "CLASSIC", "price": 10}
+                {"name": "D", "categoryType": "CLASSIC", "price": 10}
+                """));
+
+        verify(bulk, times(2)).execute();
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getRow()).isEqualTo(3));
+    }
+
+    @Test
+    void itemCreatedConcurrentlyIsLookedUpAgainAndReplaced() {
+        BulkOperationException duplicate = mock(BulkOperationException.class);
+        when(duplicate.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)));
+        when(bulk.execute()).thenAnswer(invocation -> {
+            // another writer inserted B between the lookup and this bulk write
+            existing.add(new MenuItems("65f000000000000000000002", "B", "", 10, true, CategoryEnum.CLASSIC, true));
+            throw duplicate;
+        }).thenReturn(null);
+
+        MenuImportResult result = service(500).importItems(body("""
+                {"name": "A", "categoryType": "CLASSIC", "price": 10}
+                {"name": "B", "categoryType": "CLASSIC", "price": 12}
+                """));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getErrors()).isEmpty();
+        verify(bulk).replaceOne(any(Query.class), argThat((MenuItems item) -> "65f000000000000000000002".equals(item.getId())));
+    }
+
+    @Test
+    void reportsTheFirstThousandErrorsAndCountsTheRest() {
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < 1_005; i++) {
+            rows.append("{\"name\": \"Item ").append(i).append("\", \"categoryType\": \"CLASSIC\", \"price\": 0}\n");
+        }
+
+        MenuImportResult result = service(500).importItems(body(rows.toString()));
+
+        assertThat(result.getFailed()).isEqualTo(1_005);
+        assertThat(result.getErrors()).hasSize(1_000);
+    }
+
+    @Test
+    void malformedJsonStopsTheImportButKeepsEarlierRows() {
+        MenuImportResult result = service(500).importItems(body("""
+                {"name": "A", "categoryType": "CLASSIC", "price": 10}
+                {"name": "B", "categoryType":
+                """));
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).startsWith("Malformed JSON"));
+    }
+
+    private MenuImportService service(int chunkSize) {
+        return new MenuImportService(mongoTemplate, new ObjectMapper(), snapshotService, searchService,
+                mock(IMenuEventPublisher.class), chunkSize);
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
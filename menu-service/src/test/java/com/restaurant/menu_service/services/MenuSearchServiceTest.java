@@ -0,0 +1,133 @@
+package com.restaurant.menu_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.restaurant.menu_service.dto.MenuSearchHit;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+import com.restaurant.menu_service.repository.MenuItemsRepo;
+
+class MenuSearchServiceTest {
+
+    private static final String CHANNEL = "menu-search-updates";
+
+    private final List<MenuSearchService> nodes = new ArrayList<>();
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // stands in for Redis pub/sub: every message reaches every node, the sender included
+        redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            String message = invocation.getArgument(1);
+            nodes.forEach(node -> node.onUpdate(message));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(MenuSearchService::stop);
+    }
+
+    @Test
+    void otherNodesFetchOnlyTheSavedItemAndTheSenderIgnoresItsOwnMessage() {
+        List<MenuItems> mongo = new ArrayList<>();
+        MenuItemsRepo firstRepo = repo(mongo);
+        MenuItemsRepo secondRepo = repo(mongo);
+        MenuSearchService first = node(firstRepo);
+        MenuSearchService second = node(secondRepo);
+        MenuItems dosa = item("1", "Masala Dosa");
+        mongo.add(dosa);
+
+        first.index(dosa);
+
+        assertThat(ids(first.search("dosa", 10))).containsExactly("1");
+        verify(secondRepo, timeout(1_000)).findAllById(List.of("1"));
+        awaitHits(second, "dosa", "1");
+        verify(firstRepo, after(200).never()).findAllById(any());
+    }
+
+    @Test
+    void aRemoteUpdateForAMissingItemRemovesIt() {
+        MenuItemsRepo repo = mock(MenuItemsRepo.class);
+        MenuSearchService node = node(repo);
+        when(repo.findAll()).thenReturn(List.of(item("1", "Masala Dosa")));
+        node.start();
+        awaitHits(node, "dosa", "1");
+
+        node.onUpdate("other-node UPSERT 1");
+
+        awaitHits(node, "dosa");
+    }
+
+    @Test
+    void searchDoesNotWaitForTheIndexToLoad() throws Exception {
+        MenuItemsRepo repo = mock(MenuItemsRepo.class);
+        MenuSearchService node = node(repo);
+        CountDownLatch mongo = new CountDownLatch(1);
+        when(repo.findAll()).thenAnswer(invocation -> {
+            mongo.await(5, TimeUnit.SECONDS);
+            return List.of(item("1", "Masala Dosa"));
+        });
+
+        assertThat(node.search("dosa", 10)).isEmpty();
+        verify(repo, timeout(1_000)).findAll();
+
+        mongo.countDown();
+        awaitHits(node, "dosa", "1");
+    }
+
+    private static MenuItemsRepo repo(List<MenuItems> mongo) {
+        MenuItemsRepo repo = mock(MenuItemsRepo.class);
+        when(repo.findAll()).thenAnswer(invocation -> List.copyOf(mongo));
+        when(repo.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<String> ids = invocation.getArgument(0);
+            List<String> wanted = new ArrayList<>();
+            ids.forEach(wanted::add);
+            return mongo.stream().filter(item -> wanted.contains(item.getId())).toList();
+        });
+        return repo;
+    }
+
+    private MenuSearchService node(MenuItemsRepo repo) {
+        MenuSearchService node = new MenuSearchService(repo, redisTemplate, null, CHANNEL, 30);
+        nodes.add(node);
+        return node;
+    }
+
+    private static void awaitHits(MenuSearchService node, String query, String... expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!ids(node.search(query, 10)).equals(List.of(expected)) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(ids(node.search(query, 10))).containsExactly(expected);
+    }
+
+    private static List<String> ids(List<MenuSearchHit> hits) {
+        return hits.stream().map(MenuSearchHit::getId).toList();
+    }
+
+    private static MenuItems item(String id, String name) {
+        return new MenuItems(id, name, "", 100, true, CategoryEnum.SOUTH_INDIAN, true);
+    }
+}
@@ -0,0 +1,91 @@
+package com.restaurant.menu_service.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.menu_service.dto.MenuLookupItem;
+import com.restaurant.menu_service.dto.MenuLookupResponse;
+import com.restaurant.menu_service.dto.MenuSnapshot;
+import com.restaurant.menu_service.entity.MenuItems;
+import com.restaurant.menu_service.enums.CategoryEnum;
+import com.restaurant.menu_service.repository.MenuItemsRepo;
+
+class MenuSnapshotServiceTest {
+
+    private MenuItemsRepo menuItemsRepo;
+    private List<MenuItems> menu;
+    private MenuSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        menu = new ArrayList<>(List.of(item("1", "Masala Dosa", 120)));
+        menuItemsRepo = mock(MenuItemsRepo.class);
+        when(menuItemsRepo.findAll(any(Sort.class))).thenAnswer(invocation -> List.copyOf(menu));
+        snapshotService = new MenuSnapshotService(menuItemsRepo, new ObjectMapper(), null, "menu-cache-invalidation");
+    }
+
+    @Test
+    void snapshotIsBuiltOnceUntilInvalidated() {
+        MenuSnapshot first = snapshotService.current();
+
+        assertThat(snapshotService.current()).isSameAs(first);
+        verify(menuItemsRepo, times(1)).findAll(any(Sort.class));
+        assertThat(first.getVersion()).isEqualTo(1);
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void versionOnlyMovesWhenTheMenuChanges() {
+        MenuSnapshot first = snapshotService.current();
+
+        snapshotService.invalidate();
+        assertThat(snapshotService.current()).isSameAs(first);
+
+        menu.add(item("2", "Paneer Tikka", 249));
+        snapshotService.invalidate();
+        MenuSnapshot second = snapshotService.current();
+
+        assertThat(second.getVersion()).isEqualTo(2);
+        assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(second.getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    void gzipBodyMatchesJson() throws Exception {
+        MenuSnapshot snapshot = snapshotService.current();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.getJson());
+        }
+    }
+
+    @Test
+    void lookupResolvesIdsFromTheSnapshotIndex() {
+        menu.add(item("2", "Paneer Tikka", 249));
+
+        MenuLookupResponse response = snapshotService.lookup(List.of("2", "404", "2"));
+
+        assertThat(response.getItems()).extracting(MenuLookupItem::getName).containsExactly("Paneer Tikka");
+        assertThat(response.getMissing()).containsExactly("404");
+        assertThat(response.getEtag()).isEqualTo(snapshotService.current().getEtag());
+        verify(menuItemsRepo, times(1)).findAll(any(Sort.class));
+    }
+
+    private static MenuItems item(String id, String name, double price) {
+        return new MenuItems(id, name, name + " description", price, true, CategoryEnum.SOUTH_INDIAN, true);
+    }
+}
@@ -0,0 +1,43 @@
+package com.restaurant.order.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Orders and order items used to be AUTO_INCREMENT. On MySQL their id sequences are
+ * emulated with single-row tables that start at 1, so on startup each one is moved
+ * past the highest existing id before any insert can collide with historical rows.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner {
+
+    private static final String[][] SEQUENCES = {
+            { "orders_seq", "orders" },
+            { "order_items_seq", "order_items" }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        for (String[] sequence : SEQUENCES) {
+            try {
+                int updated = jdbcTemplate.update("UPDATE " + sequence[0]
+                        + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM "
+                        + sequence[1] + "))");
+                log.debug("Aligned id sequence {} with table {} ({} rows)", sequence[0], sequence[1], updated);
+            } catch (DataAccessException e) {
+                // Native sequences (e.g. H2) are not table-backed and need no alignment
+                log.debug("Skipping id sequence alignment for {}: {}", sequence[0], e.getMessage());
+            }
+        }
+    }
+}
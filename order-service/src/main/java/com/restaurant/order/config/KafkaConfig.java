@@ -1,7 +1,8 @@
 package com.restaurant.order.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.order.serialization.OrderEventSerializer;
+import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,25 +17,29 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    private final KafkaProducerProperties producerProperties;
+
+    // Application-wide mapper (JavaTimeModule registered by Spring Boot)
+    private final ObjectMapper objectMapper;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, OrderEventSerializer.class);
 
-        // Additional producer configurations for reliability
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 1);
+        // Batching, compression and reliability settings from order.kafka.producer.*
+        configProps.putAll(producerProperties.toProducerConfig());
 
-        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), jsonSerializer());
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new OrderEventSerializer(jsonSerializer(), producerProperties.getWireFormat()));
     }
 
     @Bean
@@ -44,8 +49,6 @@ public class KafkaConfig {
 
     @Bean
     public JsonSerializer<Object> jsonSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
         return new JsonSerializer<>(objectMapper);
     }
 }
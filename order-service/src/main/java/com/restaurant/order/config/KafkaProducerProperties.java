@@ -0,0 +1,47 @@
+package com.restaurant.order.config;
+
+import lombok.Data;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tunable producer settings for order-events. Defaults favour throughput while
+ * keeping idempotence, which preserves per-partition ordering with up to five
+ * in-flight requests.
+ */
+@Component
+@ConfigurationProperties(prefix = "order.kafka.producer")
+@Data
+public class KafkaProducerProperties {
+    private String acks = "all";
+    private int retries = 3;
+    private boolean enableIdempotence = true;
+    private int maxInFlightRequestsPerConnection = 5;
+    private int lingerMs = 5;
+    private int batchSize = 64 * 1024;
+    private String compressionType = "lz4";
+    private long bufferMemory = 32 * 1024 * 1024L;
+    private WireFormat wireFormat = WireFormat.JSON;
+
+    public enum WireFormat {
+        JSON,
+        AVRO
+    }
+
+    public Map<String, Object> toProducerConfig() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.RETRIES_CONFIG, retries);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequestsPerConnection);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        return config;
+    }
+}
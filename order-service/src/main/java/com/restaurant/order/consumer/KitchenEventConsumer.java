@@ -0,0 +1,28 @@
+package com.restaurant.order.consumer;
+
+import com.restaurant.order.dto.KitchenStatusEventDTO;
+import com.restaurant.order.service.interfaces.IOrderKitchenStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch listener for kitchen-events. Each poll is applied as one transaction; if
+ * it fails the batch is redelivered, which is safe because updates only move
+ * orders forward.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenEventConsumer {
+
+    private final IOrderKitchenStatusService orderKitchenStatusService;
+
+    @KafkaListener(topics = "kitchen-events", batch = "true")
+    public void consume(List<KitchenStatusEventDTO> events) {
+        orderKitchenStatusService.applyKitchenStatuses(events);
+    }
+}
@@ -1,5 +1,8 @@
 package com.restaurant.order.controller;
 
+import com.restaurant.order.dto.BatchOrderRequestDTO;
+import com.restaurant.order.dto.BatchOrderResponseDTO;
+import com.restaurant.order.dto.OrderCursorPageDTO;
 import com.restaurant.order.dto.OrderRequestDTO;
 import com.restaurant.order.dto.OrderResponseDTO;
 import com.restaurant.order.entity.Order;
@@ -18,9 +21,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -50,6 +55,23 @@ public class OrderController {
         return new ResponseEntity<>(orderResponse, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Place orders in bulk", description = "Create many orders for the authenticated user in one request (kiosks, catering)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All orders created successfully", content = @Content(schema = @Schema(implementation = BatchOrderResponseDTO.class))),
+            @ApiResponse(responseCode = "207", description = "Some orders could not be created; see per-order results"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BatchOrderResponseDTO> createOrders(
+            @Valid @RequestBody BatchOrderRequestDTO batchOrderRequestDTO) {
+        log.info("Received request to create {} orders", batchOrderRequestDTO.getOrders().size());
+        BatchOrderResponseDTO batchResponse = orderService.createOrders(batchOrderRequestDTO.getOrders());
+        HttpStatus status = batchResponse.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(batchResponse, status);
+    }
+
     @GetMapping
     @Operation(summary = "Get user orders", description = "Retrieve all orders for the authenticated user")
     @ApiResponses(value = {
@@ -73,6 +95,22 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Get user orders with cursor pagination", description = "Retrieve orders for the authenticated user, newest first, using an opaque cursor instead of page numbers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Malformed cursor"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<OrderCursorPageDTO> getUserOrdersByCursor(
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "10") int size) {
+        log.info("Received request to get user orders by cursor - cursor: {}, size: {}", cursor, size);
+        OrderCursorPageDTO orders = orderService.getUserOrdersByCursor(cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     @GetMapping("/{orderId}")
     @Operation(summary = "Get order by ID", description = "Retrieve a specific order by its ID")
     @ApiResponses(value = {
@@ -171,4 +209,16 @@ public class OrderController {
         List<OrderResponseDTO> orders = orderService.getOrdersByStatus(status);
         return ResponseEntity.ok(orders);
     }
+
+    @GetMapping(value = "/admin/by-status/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export orders by status", description = "Stream all orders with a specific status as newline-delimited JSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportOrdersByStatus(
+            @Parameter(description = "Order status") @RequestParam Order.OrderStatus status) {
+        log.info("Admin request to export orders by status: {}", status);
+        StreamingResponseBody body = outputStream -> orderService.exportOrdersByStatus(status, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
@@ -0,0 +1,23 @@
+package com.restaurant.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderRequestDTO {
+
+    @NotEmpty(message = "At least one order is required")
+    @Size(max = 500, message = "A batch cannot contain more than 500 orders")
+    @Valid
+    private List<OrderRequestDTO> orders;
+}
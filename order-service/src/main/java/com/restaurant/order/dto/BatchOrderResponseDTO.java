@@ -0,0 +1,31 @@
+package com.restaurant.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponseDTO {
+
+    private int requested;
+    private int created;
+    private int failed;
+    private List<OrderResultDTO> results; // same order as the request
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderResultDTO {
+        private int index;
+        private boolean success;
+        private OrderResponseDTO order;
+        private String error;
+    }
+}
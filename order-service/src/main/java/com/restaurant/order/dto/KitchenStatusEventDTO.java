@@ -0,0 +1,20 @@
+package com.restaurant.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenStatusEventDTO {
+
+    private Long orderId;
+    private String kitchenOrderID;
+    private String status; // PREPARING, READY, DELIVERED
+    private LocalDateTime timestamp;
+}
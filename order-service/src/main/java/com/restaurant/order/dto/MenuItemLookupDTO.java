@@ -0,0 +1,20 @@
+package com.restaurant.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemLookupDTO {
+
+    private String id;
+    private String name;
+    private BigDecimal price;
+    private boolean available;
+}
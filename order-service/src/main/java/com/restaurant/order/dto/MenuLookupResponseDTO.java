@@ -0,0 +1,20 @@
+package com.restaurant.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuLookupResponseDTO {
+
+    private long version;
+    private String etag; // menu content version; identical on every menu-service node
+    private List<MenuItemLookupDTO> items;
+    private List<String> missing;
+}
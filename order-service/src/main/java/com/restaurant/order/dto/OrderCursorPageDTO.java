@@ -0,0 +1,19 @@
+package com.restaurant.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCursorPageDTO {
+
+    private List<OrderResponseDTO> orders;
+    private String nextCursor; // opaque; pass back as ?cursor= to fetch the next page
+    private boolean hasNext;
+}
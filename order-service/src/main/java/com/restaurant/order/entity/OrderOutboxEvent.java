@@ -0,0 +1,44 @@
+package com.restaurant.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order event waiting to be relayed to Kafka. Rows are written in the same
+ * transaction as the order change and deleted once the broker acknowledges them.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = @Index(name = "idx_order_outbox_order_id", columnList = "order_id, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.restaurant.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-limited claim on the outbox relay. Only the instance holding an unexpired
+ * lease drains the outbox, so events leave in a single id-ordered stream.
+ */
+@Entity
+@Table(name = "order_outbox_lease")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRelayLease {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,11 @@
+package com.restaurant.order.exception;
+
+public class InvalidOrderItemException extends RuntimeException {
+    public InvalidOrderItemException(String message) {
+        super(message);
+    }
+
+    public InvalidOrderItemException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
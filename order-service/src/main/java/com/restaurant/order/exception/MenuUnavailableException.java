@@ -0,0 +1,11 @@
+package com.restaurant.order.exception;
+
+public class MenuUnavailableException extends RuntimeException {
+    public MenuUnavailableException(String message) {
+        super(message);
+    }
+
+    public MenuUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.restaurant.order.exception;
+
+public class OrderEventPublishException extends RuntimeException {
+    public OrderEventPublishException(String message) {
+        super(message);
+    }
+
+    public OrderEventPublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
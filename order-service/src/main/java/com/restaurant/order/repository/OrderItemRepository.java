@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +14,8 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findByOrderId(Long orderId);
 
+    List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
+
     @Query("SELECT oi FROM OrderItem oi WHERE oi.order.userId = :userId")
     List<OrderItem> findByUserId(@Param("userId") Long userId);
 
@@ -0,0 +1,31 @@
+package com.restaurant.order.repository;
+
+import com.restaurant.order.entity.OrderOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * Oldest pending events. An event is held back while an earlier event for the
+     * same order has exhausted its attempts, so an order's events never overtake
+     * one another; those stay in the table for inspection. Only the relay holding
+     * the lease reads this, so no row locks are taken.
+     */
+    @Query("SELECT e FROM OrderOutboxEvent e WHERE e.attempts < :maxAttempts"
+            + " AND NOT EXISTS (SELECT d.id FROM OrderOutboxEvent d"
+            + " WHERE d.orderId = e.orderId AND d.id < e.id AND d.attempts >= :maxAttempts)"
+            + " ORDER BY e.id ASC")
+    List<OrderOutboxEvent> findNextBatch(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OrderOutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int incrementAttempts(@Param("ids") List<Long> ids);
+}
@@ -1,28 +1,80 @@
 package com.restaurant.order.repository;
 
 import com.restaurant.order.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @EntityGraph(attributePaths = "orderItems")
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
 
-    Page<Order> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    /**
+     * First phase of paginated reads: page over order IDs only so LIMIT/OFFSET
+     * stay in SQL, then load the page with {@link #findWithOrderItemsByIdIn}
+     */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.userId = :userId")
+    Page<Long> findIdsByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * First page of keyset pagination over a user's history; no OFFSET and no count query
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findFirstIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Next keyset page: orders strictly older than the (createdAt, id) cursor
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.userId = :userId"
+            + " AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id))"
+            + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByUserIdBeforeCursor(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @EntityGraph(attributePaths = "orderItems")
+    List<Order> findWithOrderItemsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findWithOrderItemsById(Long id);
+
+    @EntityGraph(attributePaths = "orderItems")
     List<Order> findByStatus(Order.OrderStatus status);
 
+    /**
+     * Cursor-backed stream for exports. Items are loaded per chunk by the caller,
+     * so no entity graph here; the caller must clear the persistence context as it goes.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.id")
+    Stream<Order> streamByStatus(@Param("status") Order.OrderStatus status);
+
+    @EntityGraph(attributePaths = "orderItems")
     Optional<Order> findByIdAndUserId(Long id, Long userId);
 
+    @EntityGraph(attributePaths = "orderItems")
     @Query("SELECT o FROM Order o WHERE o.userId = :userId AND o.createdAt BETWEEN :startDate AND :endDate ORDER BY o.createdAt DESC")
     List<Order> findByUserIdAndDateRange(@Param("userId") Long userId,
             @Param("startDate") LocalDateTime startDate,
@@ -31,6 +83,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.userId = :userId AND o.status = :status")
     Long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Order.OrderStatus status);
 
+    @EntityGraph(attributePaths = "orderItems")
     @Query("SELECT o FROM Order o WHERE o.status IN :statuses ORDER BY o.createdAt DESC")
     List<Order> findByStatusIn(@Param("statuses") List<Order.OrderStatus> statuses);
+
+    /**
+     * Move the given orders to {@code status} if they are currently in one of
+     * {@code from}. Bulk updates bypass {@code @UpdateTimestamp}, so updatedAt is set here.
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids AND o.status IN :from")
+    int advanceStatus(@Param("ids") Collection<Long> ids, @Param("status") Order.OrderStatus status,
+            @Param("from") Collection<Order.OrderStatus> from, @Param("updatedAt") LocalDateTime updatedAt);
 }
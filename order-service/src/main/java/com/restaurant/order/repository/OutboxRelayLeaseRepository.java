@@ -0,0 +1,28 @@
+package com.restaurant.order.repository;
+
+import com.restaurant.order.entity.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+
+    /**
+     * Renew the lease for its current owner, or take it over once it has expired.
+     * Returns 1 when the caller holds the lease afterwards.
+     */
+    @Modifying
+    @Query("UPDATE OutboxRelayLease l SET l.owner = :owner, l.expiresAt = :expiresAt"
+            + " WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+            @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE OutboxRelayLease l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,138 @@
+package com.restaurant.order.serialization;
+
+import com.restaurant.order.dto.OrderEventDTO;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Avro binary encoding of {@link OrderEventDTO} against the bundled
+ * {@code avro/order-event.avsc}. Field names live in the schema, not in every
+ * message, prices are unscaled decimal bytes and timestamps are epoch micros, so
+ * events are a fraction of their JSON size. No schema registry is involved: both services
+ * ship the same schema file.
+ */
+public class OrderEventAvroCodec {
+
+    public static final String CONTENT_TYPE = "application/vnd.rms.order-event.v1+avro";
+
+    private static final int PRICE_SCALE = 2;
+
+    private static final Schema SCHEMA = loadSchema();
+    private static final Schema ITEM_SCHEMA = SCHEMA.getField("orderItems").schema().getElementType();
+
+    private static final GenericData MODEL = new GenericData();
+
+    static {
+        MODEL.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        MODEL.addLogicalTypeConversion(new TimeConversions.LocalTimestampMicrosConversion());
+    }
+
+    private final GenericDatumWriter<GenericRecord> writer = new GenericDatumWriter<>(SCHEMA, MODEL);
+    private final GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA, SCHEMA, MODEL);
+
+    public byte[] encode(OrderEventDTO event) {
+        GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("orderId", event.getOrderId());
+        record.put("userId", event.getUserId());
+        record.put("userEmail", event.getUserEmail());
+        record.put("eventType", event.getEventType());
+        record.put("totalPrice", scaled(event.getTotalPrice()));
+        record.put("status", event.getStatus());
+        record.put("paymentStatus", event.getPaymentStatus());
+        record.put("specialInstructions", event.getSpecialInstructions());
+        record.put("timestamp", event.getTimestamp());
+
+        List<GenericRecord> items = new ArrayList<>();
+        if (event.getOrderItems() != null) {
+            for (OrderEventDTO.OrderItemEventDTO item : event.getOrderItems()) {
+                GenericRecord itemRecord = new GenericData.Record(ITEM_SCHEMA);
+                itemRecord.put("menuItemId", item.getMenuItemId());
+                itemRecord.put("menuItemName", item.getMenuItemName());
+                itemRecord.put("quantity", item.getQuantity());
+                itemRecord.put("unitPrice", scaled(item.getUnitPrice()));
+                itemRecord.put("totalPrice", scaled(item.getTotalPrice()));
+                itemRecord.put("specialRequests", item.getSpecialRequests());
+                items.add(itemRecord);
+            }
+        }
+        record.put("orderItems", items);
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(record, encoder);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode order event for orderId: " + event.getOrderId(), e);
+        }
+    }
+
+    public OrderEventDTO decode(byte[] bytes) {
+        GenericRecord record;
+        try {
+            record = reader.read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode order event", e);
+        }
+
+        List<OrderEventDTO.OrderItemEventDTO> items = new ArrayList<>();
+        for (Object element : (List<?>) record.get("orderItems")) {
+            GenericRecord item = (GenericRecord) element;
+            items.add(OrderEventDTO.OrderItemEventDTO.builder()
+                    .menuItemId((Long) item.get("menuItemId"))
+                    .menuItemName(string(item.get("menuItemName")))
+                    .quantity((Integer) item.get("quantity"))
+                    .unitPrice((BigDecimal) item.get("unitPrice"))
+                    .totalPrice((BigDecimal) item.get("totalPrice"))
+                    .specialRequests(string(item.get("specialRequests")))
+                    .build());
+        }
+
+        return OrderEventDTO.builder()
+                .orderId((Long) record.get("orderId"))
+                .userId((Long) record.get("userId"))
+                .userEmail(string(record.get("userEmail")))
+                .eventType(string(record.get("eventType")))
+                .totalPrice((BigDecimal) record.get("totalPrice"))
+                .status(string(record.get("status")))
+                .paymentStatus(string(record.get("paymentStatus")))
+                .orderItems(items)
+                .specialInstructions(string(record.get("specialInstructions")))
+                .timestamp((LocalDateTime) record.get("timestamp"))
+                .build();
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value == null ? null : value.setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static Schema loadSchema() {
+        try (InputStream in = OrderEventAvroCodec.class.getResourceAsStream("/avro/order-event.avsc")) {
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load avro/order-event.avsc", e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.restaurant.order.serialization;
+
+import com.restaurant.order.config.KafkaProducerProperties;
+import com.restaurant.order.dto.OrderEventDTO;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Value serializer for order-events. Writes JSON by default, or the compact Avro
+ * encoding when {@code order.kafka.producer.wire-format=avro}. Every record carries
+ * a content-type header so consumers can accept both formats during a rollover.
+ */
+public class OrderEventSerializer implements Serializer<Object> {
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    private final JsonSerializer<Object> jsonSerializer;
+    private final OrderEventAvroCodec avroCodec;
+    private final KafkaProducerProperties.WireFormat wireFormat;
+
+    public OrderEventSerializer(JsonSerializer<Object> jsonSerializer, KafkaProducerProperties.WireFormat wireFormat) {
+        this.jsonSerializer = jsonSerializer;
+        this.avroCodec = new OrderEventAvroCodec();
+        this.wireFormat = wireFormat;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (wireFormat == KafkaProducerProperties.WireFormat.AVRO && data instanceof OrderEventDTO orderEvent) {
+            setContentType(headers, OrderEventAvroCodec.CONTENT_TYPE);
+            return avroCodec.encode(orderEvent);
+        }
+        setContentType(headers, JSON_CONTENT_TYPE);
+        return headers == null ? jsonSerializer.serialize(topic, data) : jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+
+    private static void setContentType(Headers headers, String contentType) {
+        if (headers != null) {
+            headers.remove(CONTENT_TYPE_HEADER);
+            headers.add(CONTENT_TYPE_HEADER, contentType.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
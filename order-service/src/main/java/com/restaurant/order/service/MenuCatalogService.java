@@ -0,0 +1,180 @@
+package com.restaurant.order.service;
+
+import com.restaurant.order.dto.MenuItemLookupDTO;
+import com.restaurant.order.dto.MenuLookupResponseDTO;
+import com.restaurant.order.dto.OrderItemRequestDTO;
+import com.restaurant.order.dto.OrderRequestDTO;
+import com.restaurant.order.exception.InvalidOrderItemException;
+import com.restaurant.order.exception.MenuUnavailableException;
+import com.restaurant.order.service.interfaces.IMenuCatalogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Local copy of the menu items orders refer to, filled from menu-service's
+ * {@code POST /menu/lookup}. Every lookup answer carries the menu's version
+ * (ETag): if it matches the cached one the whole cache is still valid and is
+ * renewed; if not, the cache is replaced by the answer. While the cache is
+ * fresh and holds every id an order needs, validation makes no remote call.
+ *
+ * <p>Off by default: menu-service ids are Mongo ObjectId strings while order
+ * items still carry numeric menu item ids, looked up by their decimal form, so
+ * no order item can match a menu item until the two are reconciled. In OFF mode
+ * neither {@link #prefetch} nor {@link #validate} calls menu-service.
+ */
+@Service
+@Slf4j
+public class MenuCatalogService implements IMenuCatalogService {
+
+    public enum ValidationMode {
+        OFF, WARN, ENFORCE
+    }
+
+    private static final int PRICE_SCALE = 2;
+
+    private final RestClient restClient;
+    private final ValidationMode mode;
+    private final Duration ttl;
+
+    private volatile Catalog catalog = new Catalog(null, Map.of(), Set.of(), Instant.EPOCH);
+
+    public MenuCatalogService(RestClient.Builder restClientBuilder,
+            @Value("${order.menu.base-url:http://localhost:8089}") String baseUrl,
+            @Value("${order.menu.validation:OFF}") ValidationMode mode,
+            @Value("${order.menu.cache-ttl-seconds:30}") long ttlSeconds,
+            @Value("${order.menu.timeout-ms:2000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restClient = restClientBuilder.baseUrl(baseUrl).requestFactory(requestFactory).build();
+        this.mode = mode;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        if (mode != ValidationMode.OFF) {
+            log.warn("Menu validation is {}, but numeric order menu item ids do not match menu-service ObjectIds yet", mode);
+        }
+    }
+
+    @Override
+    public void prefetch(Collection<Long> menuItemIds) {
+        if (mode == ValidationMode.OFF || menuItemIds.isEmpty()) {
+            return;
+        }
+        Set<String> ids = menuItemIds.stream().map(String::valueOf).collect(Collectors.toCollection(LinkedHashSet::new));
+        Catalog current = catalog;
+        if (current.isFresh(ttl) && current.knows(ids)) {
+            return;
+        }
+        try {
+            catalog = current.apply(fetch(ids));
+        } catch (RestClientException e) {
+            log.warn("Menu lookup for {} items failed: {}", ids.size(), e.getMessage());
+            // a stale catalog that knows every id is better than rejecting orders
+            if (mode == ValidationMode.ENFORCE && !current.knows(ids)) {
+                throw new MenuUnavailableException("Menu service unavailable, order cannot be validated", e);
+            }
+        }
+    }
+
+    @Override
+    public void validate(OrderRequestDTO orderRequestDTO) {
+        if (mode == ValidationMode.OFF) {
+            return;
+        }
+        List<OrderItemRequestDTO> items = orderRequestDTO.getOrderItems();
+        prefetch(items.stream().map(OrderItemRequestDTO::getMenuItemId).collect(Collectors.toList()));
+
+        Catalog current = catalog;
+        for (OrderItemRequestDTO item : items) {
+            String id = String.valueOf(item.getMenuItemId());
+            MenuItemLookupDTO menuItem = current.items().get(id);
+            if (menuItem == null) {
+                reject(current.missing().contains(id) ? "Menu item " + id + " does not exist"
+                        : "Menu item " + id + " could not be checked");
+                continue;
+            }
+            if (!menuItem.isAvailable()) {
+                reject("Menu item " + id + " (" + menuItem.getName() + ") is not available");
+                continue;
+            }
+            BigDecimal price = menuItem.getPrice().setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+            if (item.getUnitPrice() == null || item.getUnitPrice().compareTo(price) != 0
+                    || !menuItem.getName().equals(item.getMenuItemName())) {
+                if (mode == ValidationMode.ENFORCE) {
+                    log.debug("Menu item {} repriced from {} to {}", id, item.getUnitPrice(), price);
+                    item.setUnitPrice(price);
+                    item.setMenuItemName(menuItem.getName());
+                } else {
+                    log.warn("Menu item {} ordered as '{}' at {}, menu has '{}' at {}", id,
+                            item.getMenuItemName(), item.getUnitPrice(), menuItem.getName(), price);
+                }
+            }
+        }
+    }
+
+    MenuLookupResponseDTO fetch(Set<String> ids) {
+        return restClient.post()
+                .uri("/menu/lookup")
+                .body(Map.of("ids", ids))
+                .retrieve()
+                .body(MenuLookupResponseDTO.class);
+    }
+
+    private void reject(String message) {
+        if (mode == ValidationMode.ENFORCE) {
+            throw new InvalidOrderItemException(message);
+        }
+        log.warn("{}; accepting order because menu validation is in warn mode", message);
+    }
+
+    /**
+     * Immutable cache state; replaced as a whole so readers never see a mix of
+     * two menu versions.
+     */
+    record Catalog(String etag, Map<String, MenuItemLookupDTO> items, Set<String> missing, Instant fetchedAt) {
+
+        boolean isFresh(Duration ttl) {
+            return fetchedAt.plus(ttl).isAfter(Instant.now());
+        }
+
+        boolean knows(Set<String> ids) {
+            for (String id : ids) {
+                if (!items.containsKey(id) && !missing.contains(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Catalog apply(MenuLookupResponseDTO response) {
+            boolean sameVersion = etag != null && etag.equals(response.getEtag());
+            Map<String, MenuItemLookupDTO> nextItems = sameVersion ? new HashMap<>(items) : new HashMap<>();
+            Set<String> nextMissing = sameVersion ? new HashSet<>(missing) : new HashSet<>();
+            for (MenuItemLookupDTO item : response.getItems()) {
+                nextItems.put(item.getId(), item);
+                nextMissing.remove(item.getId());
+            }
+            for (String id : response.getMissing()) {
+                nextItems.remove(id);
+                nextMissing.add(id);
+            }
+            return new Catalog(response.getEtag(), Map.copyOf(nextItems), Set.copyOf(nextMissing), Instant.now());
+        }
+    }
+}
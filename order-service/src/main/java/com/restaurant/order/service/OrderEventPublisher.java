@@ -1,44 +1,78 @@
 package com.restaurant.order.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.restaurant.order.dto.OrderEventDTO;
+import com.restaurant.order.entity.OrderOutboxEvent;
+import com.restaurant.order.exception.OrderEventPublishException;
+import com.restaurant.order.repository.OrderOutboxRepository;
 import com.restaurant.order.service.interfaces.IOrderEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Records order events in the outbox table as part of the caller's transaction.
+ * {@link OrderOutboxRelay} forwards them to Kafka after commit.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OrderEventPublisher implements IOrderEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    private static final String ORDER_TOPIC = "order-events";
+    private static final String INSERT_OUTBOX_SQL = "INSERT INTO order_outbox"
+            + " (order_id, event_type, payload, attempts, created_at) VALUES (?, ?, ?, 0, ?)";
 
     @Override
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderEvent(OrderEventDTO orderEvent) {
         try {
-            log.info("Publishing order event: {}", orderEvent);
+            OrderOutboxEvent outboxEvent = OrderOutboxEvent.builder()
+                    .orderId(orderEvent.getOrderId())
+                    .eventType(orderEvent.getEventType())
+                    .payload(objectMapper.writeValueAsString(orderEvent))
+                    .build();
 
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(ORDER_TOPIC,
-                    orderEvent.getOrderId().toString(), orderEvent);
+            outboxRepository.save(outboxEvent);
+            log.debug("Queued {} event for orderId: {} in outbox", orderEvent.getEventType(),
+                    orderEvent.getOrderId());
+        } catch (JsonProcessingException e) {
+            throw new OrderEventPublishException(
+                    "Failed to serialize order event for orderId: " + orderEvent.getOrderId(), e);
+        }
+    }
 
-            future.whenComplete((result, exception) -> {
-                if (exception == null) {
-                    log.info("Successfully published order event with orderId: {} to topic: {}",
-                            orderEvent.getOrderId(), ORDER_TOPIC);
-                } else {
-                    log.error("Failed to publish order event with orderId: {} to topic: {}. Error: {}",
-                            orderEvent.getOrderId(), ORDER_TOPIC, exception.getMessage());
-                }
-            });
-        } catch (Exception e) {
-            log.error("Error publishing order event: {}", e.getMessage(), e);
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderEvents(List<OrderEventDTO> orderEvents) {
+        List<Object[]> rows = new ArrayList<>(orderEvents.size());
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (OrderEventDTO orderEvent : orderEvents) {
+            try {
+                rows.add(new Object[] { orderEvent.getOrderId(), orderEvent.getEventType(),
+                        objectMapper.writeValueAsString(orderEvent), createdAt });
+            } catch (JsonProcessingException e) {
+                throw new OrderEventPublishException(
+                        "Failed to serialize order event for orderId: " + orderEvent.getOrderId(), e);
+            }
         }
+
+        // Plain JDBC batch: Hibernate cannot batch IDENTITY inserts. Ids follow insert order, not commit order,
+        // so they only order events per order (whose writes serialize on the order row); the relay keeps that order
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, rows);
+        log.debug("Queued {} order events in outbox", rows.size());
     }
 
     @Override
@@ -0,0 +1,80 @@
+package com.restaurant.order.service;
+
+import com.restaurant.order.dto.KitchenStatusEventDTO;
+import com.restaurant.order.entity.Order;
+import com.restaurant.order.repository.OrderRepository;
+import com.restaurant.order.service.interfaces.IOrderKitchenStatusService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies kitchen-events to orders with one bulk UPDATE per target status instead
+ * of a load-and-save per event. These are kitchen echoes, so no order-events are
+ * published for them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderKitchenStatusService implements IOrderKitchenStatusService {
+
+    // Statuses each kitchen status may advance from
+    private static final Map<Order.OrderStatus, Set<Order.OrderStatus>> ADVANCES_FROM = Map.of(
+            Order.OrderStatus.PREPARING, EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED),
+            Order.OrderStatus.READY, EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED,
+                    Order.OrderStatus.PREPARING),
+            Order.OrderStatus.DELIVERED, EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED,
+                    Order.OrderStatus.PREPARING, Order.OrderStatus.READY, Order.OrderStatus.OUT_FOR_DELIVERY));
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    @Transactional
+    public int applyKitchenStatuses(List<KitchenStatusEventDTO> events) {
+        Map<Long, Order.OrderStatus> latest = new HashMap<>();
+        for (KitchenStatusEventDTO event : events) {
+            Order.OrderStatus status = toOrderStatus(event);
+            if (status != null) {
+                latest.merge(event.getOrderId(), status, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+        }
+
+        Map<Order.OrderStatus, List<Long>> byStatus = new EnumMap<>(Order.OrderStatus.class);
+        latest.forEach((orderId, status) -> byStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(orderId));
+
+        int updated = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Order.OrderStatus, List<Long>> entry : byStatus.entrySet()) {
+            updated += orderRepository.advanceStatus(entry.getValue(), entry.getKey(),
+                    ADVANCES_FROM.get(entry.getKey()), now);
+        }
+        log.debug("Applied {} kitchen events to {} orders, {} updated", events.size(), latest.size(), updated);
+        return updated;
+    }
+
+    private Order.OrderStatus toOrderStatus(KitchenStatusEventDTO event) {
+        if (event == null || event.getOrderId() == null || event.getStatus() == null) {
+            return null;
+        }
+        try {
+            Order.OrderStatus status = Order.OrderStatus.valueOf(event.getStatus());
+            if (ADVANCES_FROM.containsKey(status)) {
+                return status;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through
+        }
+        log.warn("Ignoring kitchen event with status {} for orderId: {}", event.getStatus(), event.getOrderId());
+        return null;
+    }
+}
@@ -16,6 +16,11 @@ public class OrderMapperService implements IOrderMapperService {
 
         @Override
         public OrderResponseDTO toOrderResponseDTO(Order order) {
+                return toOrderResponseDTO(order, order.getOrderItems());
+        }
+
+        @Override
+        public OrderResponseDTO toOrderResponseDTO(Order order, List<OrderItem> orderItems) {
                 return OrderResponseDTO.builder()
                                 .id(order.getId())
                                 .userId(order.getUserId())
@@ -25,7 +30,7 @@ public class OrderMapperService implements IOrderMapperService {
                                 .paymentStatus(order.getPaymentStatus())
                                 .phoneNumber(order.getPhoneNumber())
                                 .specialInstructions(order.getSpecialInstructions())
-                                .orderItems(order.getOrderItems().stream()
+                                .orderItems(orderItems.stream()
                                                 .map(this::toOrderItemResponseDTO)
                                                 .collect(Collectors.toList()))
                                 .createdAt(order.getCreatedAt())
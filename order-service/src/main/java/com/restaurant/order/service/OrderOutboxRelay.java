@@ -0,0 +1,242 @@
+package com.restaurant.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.order.dto.OrderEventDTO;
+import com.restaurant.order.entity.OrderOutboxEvent;
+import com.restaurant.order.entity.OutboxRelayLease;
+import com.restaurant.order.repository.OrderOutboxRepository;
+import com.restaurant.order.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the order outbox to the order-events topic. Only the instance holding
+ * the relay lease drains, so events leave in id order. Within a batch different
+ * orders are sent without waiting on each other so the producer can pipeline
+ * them, while an order's next event is sent only after the previous one is
+ * acknowledged; after a failure the rest of that order's events wait for the
+ * next batch. Those follow-up sends run on the relay's own send thread, never in
+ * the completion callback on the producer's network thread, where a send blocked
+ * on metadata or a full buffer would stall the thread that unblocks it.
+ * Acknowledged rows are then deleted in a single statement.
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private static final String ORDER_TOPIC = "order-events";
+    private static final String LEASE_NAME = "order-outbox-relay";
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OutboxRelayLeaseRepository leaseRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ExecutorService sendExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("order-outbox-send").daemon().factory());
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final DistributionSummary batchSizeSummary;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    @Value("${order.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${order.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${order.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.lease-ms:30000}")
+    private long leaseMs;
+
+    public OrderOutboxRelay(OrderOutboxRepository outboxRepository,
+            OutboxRelayLeaseRepository leaseRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+
+        Gauge.builder("order.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Age of the oldest outbox event in the last drained batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.outbox.batch.size")
+                .description("Number of outbox events drained per batch")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("order.outbox.published")
+                .description("Outbox events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.outbox.failed")
+                .description("Outbox events that failed to publish and will be retried")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Keep draining while full batches are acknowledged, then wait for the next poll
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:200}")
+    public void relay() {
+        int drained;
+        do {
+            if (!holdLease()) {
+                return;
+            }
+            drained = drainBatch();
+        } while (drained == batchSize);
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        sendExecutor.shutdownNow();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    leaseRepository.release(LEASE_NAME, instanceId, LocalDateTime.now()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release outbox relay lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Renew or take over the relay lease; renewed before every batch, so it is held
+     * for as long as a batch can take to acknowledge.
+     */
+    boolean holdLease() {
+        LocalDateTime now = LocalDateTime.now();
+        // a batch waits at most send-timeout-ms, so the lease must outlast two of them
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(Math.max(leaseMs, 2 * sendTimeoutMs)));
+        try {
+            Integer acquired = transactionTemplate.execute(status ->
+                    leaseRepository.tryAcquire(LEASE_NAME, instanceId, now, expiresAt));
+            if (acquired != null && acquired == 1) {
+                return true;
+            }
+            if (leaseRepository.existsById(LEASE_NAME)) {
+                return false;
+            }
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.saveAndFlush(
+                    OutboxRelayLease.builder().name(LEASE_NAME).owner(instanceId).expiresAt(expiresAt).build()));
+            log.info("Acquired outbox relay lease as {}", instanceId);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // another instance created the lease first
+            return false;
+        }
+    }
+
+    int drainBatch() {
+        List<OrderOutboxEvent> batch = outboxRepository.findNextBatch(maxAttempts, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+
+        lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+        batchSizeSummary.record(batch.size());
+
+        // one send chain per order; abandoned stops chains still waiting when the batch gives up
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Map<Long, CompletableFuture<SendResult<String, Object>>> lastByOrder = new HashMap<>();
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(batch.size());
+        for (OrderOutboxEvent event : batch) {
+            CompletableFuture<SendResult<String, Object>> previous = lastByOrder.get(event.getOrderId());
+            CompletableFuture<SendResult<String, Object>> future = previous == null
+                    ? send(event)
+                    : previous.thenComposeAsync(result -> abandoned.get()
+                            ? CompletableFuture.failedFuture(new IllegalStateException("Outbox batch abandoned"))
+                            : send(event), sendExecutor);
+            lastByOrder.put(event.getOrderId(), future);
+            futures.add(future);
+        }
+        kafkaTemplate.flush();
+
+        List<Long> published = new ArrayList<>(batch.size());
+        List<Long> failed = new ArrayList<>();
+        Set<Long> blockedOrders = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderOutboxEvent event = batch.get(i);
+            if (blockedOrders.contains(event.getOrderId())) {
+                // an earlier event for this order failed; this one was not sent and is retried after it
+                continue;
+            }
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                published.add(event.getId());
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("Failed to publish outbox event {} for orderId: {} to topic: {}. Error: {}",
+                        event.getId(), event.getOrderId(), ORDER_TOPIC, e.getMessage());
+                failed.add(event.getId());
+                blockedOrders.add(event.getOrderId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.add(event.getId());
+                blockedOrders.add(event.getOrderId());
+            }
+        }
+        abandoned.set(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(published);
+            }
+            if (!failed.isEmpty()) {
+                outboxRepository.incrementAttempts(failed);
+            }
+        });
+        publishedCounter.increment(published.size());
+        failedCounter.increment(failed.size());
+
+        log.debug("Relayed {} outbox events to topic: {} ({} failed)", published.size(), ORDER_TOPIC, failed.size());
+        return published.size();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OrderOutboxEvent event) {
+        try {
+            OrderEventDTO orderEvent = objectMapper.readValue(event.getPayload(), OrderEventDTO.class);
+            return kafkaTemplate.send(ORDER_TOPIC, event.getOrderId().toString(), orderEvent);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -1,25 +1,48 @@
 package com.restaurant.order.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.restaurant.order.dto.*;
 import com.restaurant.order.entity.*;
+import com.restaurant.order.exception.InvalidCursorException;
+import com.restaurant.order.exception.InvalidOrderItemException;
+import com.restaurant.order.exception.MenuUnavailableException;
 import com.restaurant.order.exception.OrderNotFoundException;
 import com.restaurant.order.exception.UnauthorizedAccessException;
+import com.restaurant.order.repository.OrderItemRepository;
 import com.restaurant.order.repository.OrderRepository;
 import com.restaurant.order.service.interfaces.IOrderService;
 import com.restaurant.order.service.interfaces.IJwtService;
+import com.restaurant.order.service.interfaces.IMenuCatalogService;
 import com.restaurant.order.service.interfaces.IOrderMapperService;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,35 +51,98 @@ import java.util.stream.Collectors;
 public class OrderService implements IOrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
     private final IJwtService jwtService;
     private final IOrderMapperService orderMapper;
     private final OrderEventPublisher orderEventPublisher;
+    private final IMenuCatalogService menuCatalogService;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
+
+    @Value("${order.export.chunk-size:500}")
+    private int exportChunkSize;
+
+    @Value("${order.batch.chunk-size:100}")
+    private int batchChunkSize;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponseDTO createOrder(OrderRequestDTO orderRequestDTO) {
         // Get current user from JWT token
         Long userId = jwtService.getCurrentUserId();
         String userEmail = jwtService.getCurrentUserEmail();
 
-        // Create order entity
-        Order order = orderMapper.toOrder(orderRequestDTO, userId, userEmail);
+        // Check items against the menu before the transaction, so no connection is held during the remote call;
+        // prices and names come from the menu when enforced
+        menuCatalogService.validate(orderRequestDTO);
 
-        // Create order items
-        List<OrderItem> orderItems = orderRequestDTO.getOrderItems().stream()
-                .map(itemDTO -> orderMapper.toOrderItem(itemDTO, order))
-                .collect(Collectors.toList());
+        return transactionTemplate.execute(status -> {
+            // Create order entity with its items
+            Order order = buildOrder(orderRequestDTO, userId, userEmail);
 
-        order.setOrderItems(orderItems);
+            // Save order
+            Order savedOrder = orderRepository.save(order);
+            log.info("Order created successfully with ID: {}", savedOrder.getId());
 
-        // Save order
-        Order savedOrder = orderRepository.save(order);
-        log.info("Order created successfully with ID: {}", savedOrder.getId());
+            // Publish order placed event
+            OrderEventDTO orderEvent = orderMapper.toOrderEventDTO(savedOrder, "ORDER_PLACED");
+            orderEventPublisher.publishOrderPlaced(orderEvent);
 
-        // Publish order placed event
-        OrderEventDTO orderEvent = orderMapper.toOrderEventDTO(savedOrder, "ORDER_PLACED");
-        orderEventPublisher.publishOrderPlaced(orderEvent);
+            return orderMapper.toOrderResponseDTO(savedOrder);
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchOrderResponseDTO createOrders(List<OrderRequestDTO> orderRequests) {
+        // Resolve the caller once for the whole batch
+        Long userId = jwtService.getCurrentUserId();
+        String userEmail = jwtService.getCurrentUserEmail();
+        log.info("Creating batch of {} orders for user ID: {}", orderRequests.size(), userId);
+
+        // One menu lookup for the whole batch; invalid orders fail on their own instead of failing a chunk
+        menuCatalogService.prefetch(orderRequests.stream()
+                .flatMap(request -> request.getOrderItems().stream())
+                .map(OrderItemRequestDTO::getMenuItemId)
+                .collect(Collectors.toSet()));
+
+        List<BatchOrderResponseDTO.OrderResultDTO> results = new ArrayList<>(orderRequests.size());
+        List<Integer> accepted = new ArrayList<>(orderRequests.size());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            try {
+                menuCatalogService.validate(orderRequests.get(i));
+                accepted.add(i);
+            } catch (InvalidOrderItemException | MenuUnavailableException e) {
+                results.add(BatchOrderResponseDTO.OrderResultDTO.builder()
+                        .index(i)
+                        .success(false)
+                        .error("Order could not be created: " + e.getMessage())
+                        .build());
+            }
+        }
+
+        for (int start = 0; start < accepted.size(); start += batchChunkSize) {
+            List<Integer> indexes = accepted.subList(start, Math.min(start + batchChunkSize, accepted.size()));
+            List<OrderRequestDTO> chunk = indexes.stream()
+                    .map(orderRequests::get)
+                    .collect(Collectors.toList());
+            results.addAll(createOrderChunk(chunk, indexes, userId, userEmail));
+        }
+        results.sort(Comparator.comparingInt(BatchOrderResponseDTO.OrderResultDTO::getIndex));
 
-        return orderMapper.toOrderResponseDTO(savedOrder);
+        int created = (int) results.stream().filter(BatchOrderResponseDTO.OrderResultDTO::isSuccess).count();
+        log.info("Batch order creation finished: {} created, {} failed", created, results.size() - created);
+
+        return BatchOrderResponseDTO.builder()
+                .requested(orderRequests.size())
+                .created(created)
+                .failed(results.size() - created)
+                .results(results)
+                .build();
     }
 
     @Override
@@ -78,9 +164,50 @@ public class OrderService implements IOrderService {
         log.info("Fetching paginated orders for user ID: {} - page: {}, size: {}", userId, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Page<Long> orderIds = orderRepository.findIdsByUserIdOrderByCreatedAtDesc(userId, pageable);
+
+        // Batch-fetch the page with its items, then restore the page ordering
+        Map<Long, Order> ordersById = orderRepository.findWithOrderItemsByIdIn(orderIds.getContent()).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
 
-        return orders.map(orderMapper::toOrderResponseDTO);
+        return orderIds.map(id -> orderMapper.toOrderResponseDTO(ordersById.get(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderCursorPageDTO getUserOrdersByCursor(String cursor, int size) {
+        Long userId = jwtService.getCurrentUserId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        log.info("Fetching cursor page of orders for user ID: {} - cursor: {}, size: {}", userId, cursor, pageSize);
+
+        // Fetch one extra ID to learn whether another page exists without a count query
+        Limit limit = Limit.of(pageSize + 1);
+        List<Long> orderIds;
+        if (cursor == null || cursor.isBlank()) {
+            orderIds = orderRepository.findFirstIdsByUserId(userId, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            orderIds = orderRepository.findIdsByUserIdBeforeCursor(userId,
+                    LocalDateTime.parse(position[0]), Long.valueOf(position[1]), limit);
+        }
+
+        boolean hasNext = orderIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, pageSize) : orderIds;
+
+        Map<Long, Order> ordersById = orderRepository.findWithOrderItemsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<Order> orders = pageIds.stream()
+                .map(ordersById::get)
+                .collect(Collectors.toList());
+
+        Order last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+        return OrderCursorPageDTO.builder()
+                .orders(orders.stream()
+                        .map(orderMapper::toOrderResponseDTO)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? encodeCursor(last) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
@@ -104,7 +231,7 @@ public class OrderService implements IOrderService {
             throw new UnauthorizedAccessException("Only administrators can update order status");
         }
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithOrderItemsById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
 
         Order.OrderStatus oldStatus = order.getStatus();
@@ -124,7 +251,7 @@ public class OrderService implements IOrderService {
     public OrderResponseDTO updatePaymentStatus(Long orderId, Order.PaymentStatus newPaymentStatus) {
         log.info("Updating order ID: {} payment status to: {}", orderId, newPaymentStatus);
 
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithOrderItemsById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + orderId));
 
         // Check if the current user is the order owner or admin
@@ -207,6 +334,33 @@ public class OrderService implements IOrderService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrdersByStatus(Order.OrderStatus status, OutputStream outputStream) throws IOException {
+        // Only allow admins to export orders by status
+        if (!jwtService.isAdmin()) {
+            throw new UnauthorizedAccessException("Only administrators can export orders by status");
+        }
+
+        log.info("Exporting orders with status: {}", status);
+        ObjectWriter writer = objectMapper.writer();
+        List<Order> chunk = new ArrayList<>(exportChunkSize);
+        long exported = 0;
+
+        try (Stream<Order> orders = orderRepository.streamByStatus(status)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == exportChunkSize) {
+                    exported += writeExportChunk(chunk, writer, outputStream);
+                }
+            }
+            exported += writeExportChunk(chunk, writer, outputStream);
+        }
+
+        log.info("Exported {} orders with status: {}", exported, status);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponseDTO> getUserOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
@@ -225,4 +379,117 @@ public class OrderService implements IOrderService {
         Long userId = jwtService.getCurrentUserId();
         return orderRepository.countByUserIdAndStatus(userId, status);
     }
+
+    private Order buildOrder(OrderRequestDTO orderRequestDTO, Long userId, String userEmail) {
+        Order order = orderMapper.toOrder(orderRequestDTO, userId, userEmail);
+
+        List<OrderItem> orderItems = orderRequestDTO.getOrderItems().stream()
+                .map(itemDTO -> orderMapper.toOrderItem(itemDTO, order))
+                .collect(Collectors.toList());
+
+        order.setOrderItems(orderItems);
+        return order;
+    }
+
+    /**
+     * Persist one chunk of a batch in its own transaction. Inserts for the chunk's
+     * orders, items and outbox events are sent as JDBC batches; if the chunk fails,
+     * every order in it is reported as failed and earlier chunks stay committed.
+     */
+    private List<BatchOrderResponseDTO.OrderResultDTO> createOrderChunk(List<OrderRequestDTO> chunk,
+            List<Integer> indexes, Long userId, String userEmail) {
+        try {
+            List<OrderResponseDTO> created = transactionTemplate.execute(status -> {
+                List<Order> orders = chunk.stream()
+                        .map(request -> buildOrder(request, userId, userEmail))
+                        .collect(Collectors.toList());
+
+                List<Order> savedOrders = orderRepository.saveAll(orders);
+
+                orderEventPublisher.publishOrderEvents(savedOrders.stream()
+                        .map(order -> orderMapper.toOrderEventDTO(order, "ORDER_PLACED"))
+                        .collect(Collectors.toList()));
+
+                return savedOrders.stream()
+                        .map(orderMapper::toOrderResponseDTO)
+                        .collect(Collectors.toList());
+            });
+
+            List<BatchOrderResponseDTO.OrderResultDTO> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < created.size(); i++) {
+                results.add(BatchOrderResponseDTO.OrderResultDTO.builder()
+                        .index(indexes.get(i))
+                        .success(true)
+                        .order(created.get(i))
+                        .build());
+            }
+            return results;
+        } catch (RuntimeException e) {
+            log.error("Failed to create orders {} to {} of batch: {}", indexes.get(0),
+                    indexes.get(indexes.size() - 1), e.getMessage());
+
+            List<BatchOrderResponseDTO.OrderResultDTO> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BatchOrderResponseDTO.OrderResultDTO.builder()
+                        .index(indexes.get(i))
+                        .success(false)
+                        .error("Order could not be created: " + e.getMessage())
+                        .build());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Write one chunk as NDJSON, loading the chunk's items in a single query, then
+     * detach it so the persistence context stays bounded regardless of export size
+     */
+    private int writeExportChunk(List<Order> chunk, ObjectWriter writer, OutputStream outputStream)
+            throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> orderIds = chunk.stream()
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+
+        for (Order order : chunk) {
+            OrderResponseDTO dto = orderMapper.toOrderResponseDTO(order,
+                    itemsByOrderId.getOrDefault(order.getId(), List.of()));
+            outputStream.write(writer.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+
+    private static String encodeCursor(Order order) {
+        String position = order.getCreatedAt() + CURSOR_SEPARATOR + order.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + cursor);
+            }
+            String[] parts = { position.substring(0, separator), position.substring(separator + 1) };
+            // Validate both components before they reach the query
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor, e);
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.restaurant.order.service.interfaces;
+
+import com.restaurant.order.dto.OrderRequestDTO;
+
+import java.util.Collection;
+
+public interface IMenuCatalogService {
+
+    /**
+     * Make sure the given menu items are in the local catalog cache, with at most
+     * one call to menu-service
+     * 
+     * @param menuItemIds Menu item IDs about to be validated
+     */
+    void prefetch(Collection<Long> menuItemIds);
+
+    /**
+     * Check an order's items against the menu. In enforce mode unknown or
+     * unavailable items are rejected and unit price and name are replaced with
+     * the menu's values; in warn mode differences are only logged
+     * 
+     * @param orderRequestDTO Order request, updated in place
+     */
+    void validate(OrderRequestDTO orderRequestDTO);
+}
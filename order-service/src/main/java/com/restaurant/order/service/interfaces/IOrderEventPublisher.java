@@ -2,15 +2,26 @@ package com.restaurant.order.service.interfaces;
 
 import com.restaurant.order.dto.OrderEventDTO;
 
+import java.util.List;
+
 public interface IOrderEventPublisher {
 
     /**
-     * Publish order event to Kafka
+     * Record order event in the outbox within the current transaction; the
+     * outbox relay publishes it to Kafka once the transaction commits
      * 
      * @param orderEvent Order event DTO
      */
     void publishOrderEvent(OrderEventDTO orderEvent);
 
+    /**
+     * Record several order events in the outbox with a single batched insert,
+     * within the current transaction
+     * 
+     * @param orderEvents Order event DTOs, each with its event type set
+     */
+    void publishOrderEvents(List<OrderEventDTO> orderEvents);
+
     /**
      * Publish order placed event
      * 
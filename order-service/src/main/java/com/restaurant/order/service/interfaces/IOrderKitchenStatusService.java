@@ -0,0 +1,18 @@
+package com.restaurant.order.service.interfaces;
+
+import com.restaurant.order.dto.KitchenStatusEventDTO;
+
+import java.util.List;
+
+public interface IOrderKitchenStatusService {
+
+    /**
+     * Apply a batch of kitchen status events. Only the furthest status per order
+     * is kept, and orders only ever move forward: cancelled, delivered or
+     * already-advanced orders are left untouched
+     * 
+     * @param events Kitchen status events, in consumption order
+     * @return Number of orders whose status changed
+     */
+    int applyKitchenStatuses(List<KitchenStatusEventDTO> events);
+}
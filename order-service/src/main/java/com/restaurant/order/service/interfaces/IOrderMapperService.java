@@ -4,6 +4,8 @@ import com.restaurant.order.dto.*;
 import com.restaurant.order.entity.Order;
 import com.restaurant.order.entity.OrderItem;
 
+import java.util.List;
+
 public interface IOrderMapperService {
 
     /**
@@ -14,6 +16,16 @@ public interface IOrderMapperService {
      */
     OrderResponseDTO toOrderResponseDTO(Order order);
 
+    /**
+     * Convert Order entity to OrderResponseDTO using items loaded separately,
+     * without touching the lazy orderItems collection
+     * 
+     * @param order      Order entity
+     * @param orderItems Items belonging to the order
+     * @return OrderResponseDTO
+     */
+    OrderResponseDTO toOrderResponseDTO(Order order, List<OrderItem> orderItems);
+
     /**
      * Convert OrderItem entity to OrderItemResponseDTO
      * 
@@ -1,10 +1,14 @@
 package com.restaurant.order.service.interfaces;
 
+import com.restaurant.order.dto.BatchOrderResponseDTO;
+import com.restaurant.order.dto.OrderCursorPageDTO;
 import com.restaurant.order.dto.OrderRequestDTO;
 import com.restaurant.order.dto.OrderResponseDTO;
 import com.restaurant.order.entity.Order;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,6 +22,15 @@ public interface IOrderService {
      */
     OrderResponseDTO createOrder(OrderRequestDTO orderRequestDTO);
 
+    /**
+     * Create many orders for the authenticated user in one call. Orders are
+     * persisted in chunks, each chunk in its own transaction with batched inserts.
+     * 
+     * @param orderRequests Order details, in request order
+     * @return Per-order results in request order
+     */
+    BatchOrderResponseDTO createOrders(List<OrderRequestDTO> orderRequests);
+
     /**
      * Get all orders for the authenticated user
      * 
@@ -34,6 +47,16 @@ public interface IOrderService {
      */
     Page<OrderResponseDTO> getUserOrdersPaginated(int page, int size);
 
+    /**
+     * Get a keyset-paginated page of orders for the authenticated user, newest
+     * first. Cost does not grow with page depth and no count query is issued.
+     * 
+     * @param cursor Opaque cursor from the previous page, or null for the first page
+     * @param size   Page size
+     * @return Page of orders with the cursor for the next page
+     */
+    OrderCursorPageDTO getUserOrdersByCursor(String cursor, int size);
+
     /**
      * Get a specific order by ID for the authenticated user
      * 
@@ -75,6 +98,17 @@ public interface IOrderService {
      */
     List<OrderResponseDTO> getOrdersByStatus(Order.OrderStatus status);
 
+    /**
+     * Stream all orders with the given status as NDJSON (Admin only). Rows are
+     * read through a database cursor and written in chunks, so memory stays flat
+     * regardless of result size.
+     * 
+     * @param status       Order status
+     * @param outputStream Stream to write one JSON order per line to
+     * @throws IOException if writing to the stream fails
+     */
+    void exportOrdersByStatus(Order.OrderStatus status, OutputStream outputStream) throws IOException;
+
     /**
      * Get user orders within a date range
      * 
@@ -0,0 +1,152 @@
+package com.restaurant.order.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.order.dto.OrderEventDTO;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares order-events producer profiles against an embedded broker: events/sec
+ * and per-send latency (send call to broker ack). Not part of the regular test run;
+ * execute with {@code mvn test -Dtest=KafkaProducerProfileBenchmark}.
+ */
+class KafkaProducerProfileBenchmark {
+
+    private static final String TOPIC = "order-events-bench";
+    private static final int WARMUP_EVENTS = 2_000;
+    private static final int EVENTS = 20_000;
+
+    private static EmbeddedKafkaKraftBroker broker;
+    private static ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void compareProfiles() throws Exception {
+        Map<String, KafkaProducerProperties> profiles = new LinkedHashMap<>();
+        profiles.put("previous (in-flight 1, no linger)", previousProfile());
+        profiles.put("default (linger 5, 64k, lz4)", new KafkaProducerProperties());
+        profiles.put("zstd (linger 10, 128k)", zstdProfile());
+
+        System.out.printf("%n%-36s %12s %10s %10s %10s%n", "profile", "events/sec", "p50 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, KafkaProducerProperties> profile : profiles.entrySet()) {
+            Result result = run(profile.getValue());
+            System.out.printf("%-36s %12.0f %10.2f %10.2f %10.2f%n", profile.getKey(), result.eventsPerSecond,
+                    result.p50Millis, result.p99Millis, result.maxMillis);
+            assertThat(result.acked).isEqualTo(EVENTS);
+        }
+    }
+
+    private Result run(KafkaProducerProperties properties) throws Exception {
+        Map<String, Object> config = new LinkedHashMap<>(properties.toProducerConfig());
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(), new JsonSerializer<>(objectMapper));
+        try {
+            KafkaTemplate<String, Object> template = new KafkaTemplate<>(factory);
+            send(template, WARMUP_EVENTS, new long[WARMUP_EVENTS]);
+
+            long[] latencies = new long[EVENTS];
+            long start = System.nanoTime();
+            int acked = send(template, EVENTS, latencies);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            return new Result(acked, EVENTS / (elapsed / 1e9),
+                    latencies[EVENTS / 2] / 1e6, latencies[(int) (EVENTS * 0.99)] / 1e6, latencies[EVENTS - 1] / 1e6);
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    private int send(KafkaTemplate<String, Object> template, int count, long[] latencies) throws Exception {
+        List<CompletableFuture<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            OrderEventDTO event = sampleEvent(i);
+            long sentAt = System.nanoTime();
+            futures.add(template.send(TOPIC, event.getOrderId().toString(), event)
+                    .whenComplete((result, ex) -> latencies[index] = System.nanoTime() - sentAt));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(2, TimeUnit.MINUTES);
+        return (int) futures.stream().filter(future -> !future.isCompletedExceptionally()).count();
+    }
+
+    private static OrderEventDTO sampleEvent(long orderId) {
+        List<OrderEventDTO.OrderItemEventDTO> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(OrderEventDTO.OrderItemEventDTO.builder()
+                    .menuItemId((long) i + 1)
+                    .menuItemName("Paneer Tikka " + i)
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("249.00"))
+                    .totalPrice(new BigDecimal("498.00"))
+                    .build());
+        }
+        return OrderEventDTO.builder()
+                .orderId(orderId)
+                .userId(orderId % 500)
+                .userEmail("customer" + (orderId % 500) + "@restaurant.com")
+                .eventType("ORDER_PLACED")
+                .totalPrice(new BigDecimal("1494.00"))
+                .status("PENDING")
+                .paymentStatus("PENDING")
+                .orderItems(items)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static KafkaProducerProperties previousProfile() {
+        KafkaProducerProperties properties = new KafkaProducerProperties();
+        properties.setMaxInFlightRequestsPerConnection(1);
+        properties.setLingerMs(0);
+        properties.setBatchSize(16 * 1024);
+        properties.setCompressionType("none");
+        return properties;
+    }
+
+    private static KafkaProducerProperties zstdProfile() {
+        KafkaProducerProperties properties = new KafkaProducerProperties();
+        properties.setLingerMs(10);
+        properties.setBatchSize(128 * 1024);
+        properties.setCompressionType("zstd");
+        return properties;
+    }
+
+    private record Result(int acked, double eventsPerSecond, double p50Millis, double p99Millis, double maxMillis) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.restaurant.order.repository;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * JDBC statements and latency per persisted order, IDENTITY ids against pooled-lo
+ * sequence ids with insert batching, for 1-, 10- and 50-item orders on H2. Both
+ * mappings share the same columns; only id generation differs. Statements stand
+ * in for round trips: on MySQL with rewriteBatchedStatements each one is a round
+ * trip, while H2 in memory makes latencies only relative. Not part of the regular
+ * test run; execute with {@code mvn test -Dtest=OrderInsertBenchmark}.
+ */
+class OrderInsertBenchmark {
+
+    private static final int WARMUP_ORDERS = 1_000;
+    private static final int ORDERS = 3_000;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        // the same batching and optimizer settings as application.yml
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityOrder.class)
+                .addAnnotatedClass(IdentityOrderItem.class)
+                .addAnnotatedClass(PooledOrder.class)
+                .addAnnotatedClass(PooledOrderItem.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:order-insert-bench;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .setProperty(AvailableSettings.LOG_SESSION_METRICS, "false")
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void compareIdGeneration() {
+        System.out.printf("%n%-10s %6s %16s %10s %10s%n", "ids", "items", "statements/order", "p50 us", "p99 us");
+        for (int items : new int[] { 1, 10, 50 }) {
+            report("identity", items, measure(n -> identityOrder(items)));
+            report("pooled-lo", items, measure(n -> pooledOrder(items)));
+        }
+    }
+
+    private static Result measure(IntFunction<Object> orders) {
+        for (int i = 0; i < WARMUP_ORDERS; i++) {
+            persist(orders.apply(i));
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        long[] nanos = new long[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            Object order = orders.apply(i);
+            long start = System.nanoTime();
+            persist(order);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new Result((double) statistics.getPrepareStatementCount() / ORDERS,
+                nanos[ORDERS / 2] / 1_000.0, nanos[(int) (ORDERS * 0.99)] / 1_000.0);
+    }
+
+    private static void persist(Object order) {
+        sessionFactory.inTransaction(session -> session.persist(order));
+    }
+
+    private static void report(String ids, int items, Result result) {
+        System.out.printf("%-10s %6d %16.2f %10.1f %10.1f%n", ids, items, result.statements(), result.p50(), result.p99());
+    }
+
+    private static IdentityOrder identityOrder(int itemCount) {
+        IdentityOrder order = new IdentityOrder();
+        fill(order);
+        for (int i = 0; i < itemCount; i++) {
+            IdentityOrderItem item = new IdentityOrderItem();
+            fill(item, i);
+            item.order = order;
+            order.items.add(item);
+        }
+        return order;
+    }
+
+    private static PooledOrder pooledOrder(int itemCount) {
+        PooledOrder order = new PooledOrder();
+        fill(order);
+        for (int i = 0; i < itemCount; i++) {
+            PooledOrderItem item = new PooledOrderItem();
+            fill(item, i);
+            item.order = order;
+            order.items.add(item);
+        }
+        return order;
+    }
+
+    private static void fill(OrderColumns order) {
+        order.userId = 42L;
+        order.status = "PENDING";
+        order.totalPrice = BigDecimal.TEN;
+        order.createdAt = LocalDateTime.now();
+    }
+
+    private static void fill(OrderItemColumns item, int index) {
+        item.menuItemId = (long) index + 1;
+        item.menuItemName = "Item " + index;
+        item.quantity = 1;
+        item.unitPrice = BigDecimal.ONE;
+        item.price = BigDecimal.ONE;
+    }
+
+    private record Result(double statements, double p50, double p99) {
+    }
+
+    @MappedSuperclass
+    static class OrderColumns {
+        Long userId;
+        String status;
+        BigDecimal totalPrice;
+        LocalDateTime createdAt;
+    }
+
+    @MappedSuperclass
+    static class OrderItemColumns {
+        Long menuItemId;
+        String menuItemName;
+        Integer quantity;
+        BigDecimal unitPrice;
+        BigDecimal price;
+    }
+
+    @Entity
+    @Table(name = "bench_identity_orders")
+    static class IdentityOrder extends OrderColumns {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+        List<IdentityOrderItem> items = new ArrayList<>();
+    }
+
+    @Entity
+    @Table(name = "bench_identity_order_items")
+    static class IdentityOrderItem extends OrderItemColumns {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "order_id", nullable = false)
+        IdentityOrder order;
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_orders")
+    static class PooledOrder extends OrderColumns {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_orders_seq")
+        @SequenceGenerator(name = "bench_orders_seq", sequenceName = "bench_orders_seq", allocationSize = 50)
+        Long id;
+
+        @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
+        List<PooledOrderItem> items = new ArrayList<>();
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_order_items")
+    static class PooledOrderItem extends OrderItemColumns {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_order_items_seq")
+        @SequenceGenerator(name = "bench_order_items_seq", sequenceName = "bench_order_items_seq", allocationSize = 50)
+        Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "order_id", nullable = false)
+        PooledOrder order;
+    }
+}
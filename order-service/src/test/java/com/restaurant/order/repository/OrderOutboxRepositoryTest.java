@@ -0,0 +1,49 @@
+package com.restaurant.order.repository;
+
+import com.restaurant.order.entity.OrderOutboxEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class OrderOutboxRepositoryTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Test
+    void exhaustedEventHoldsBackLaterEventsForItsOrderOnly() {
+        persist(1L, MAX_ATTEMPTS);
+        Long blocked = persist(1L, 0);
+        Long other = persist(2L, 0);
+
+        List<Long> batch = outboxRepository.findNextBatch(MAX_ATTEMPTS, PageRequest.of(0, 10)).stream()
+                .map(OrderOutboxEvent::getId)
+                .toList();
+
+        assertThat(batch).containsExactly(other).doesNotContain(blocked);
+    }
+
+    private Long persist(Long orderId, int attempts) {
+        return entityManager.persistAndFlush(OrderOutboxEvent.builder()
+                .orderId(orderId)
+                .eventType("ORDER_STATUS_CHANGED")
+                .payload("{}")
+                .attempts(attempts)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,180 @@
+package com.restaurant.order.repository;
+
+import com.restaurant.order.entity.Order;
+import com.restaurant.order.entity.OrderItem;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class OrderRepositoryTest {
+
+    private static final Long USER_ID = 42L;
+    private static final int ORDER_COUNT = 30;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            entityManager.persist(buildOrder(i % 2 == 0 ? Order.OrderStatus.PENDING : Order.OrderStatus.DELIVERED,
+                    ITEMS_PER_ORDER));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void userOrdersLoadItemsInSingleStatement() {
+        List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(USER_ID);
+
+        assertThat(orders).hasSize(ORDER_COUNT);
+        assertThat(countItems(orders)).isEqualTo(ORDER_COUNT * ITEMS_PER_ORDER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ordersByStatusLoadItemsInSingleStatement() {
+        List<Order> orders = orderRepository.findByStatus(Order.OrderStatus.PENDING);
+
+        assertThat(countItems(orders)).isEqualTo(ORDER_COUNT / 2 * ITEMS_PER_ORDER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dateRangeLoadsItemsInSingleStatement() {
+        List<Order> orders = orderRepository.findByUserIdAndDateRange(USER_ID,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        assertThat(countItems(orders)).isEqualTo(ORDER_COUNT * ITEMS_PER_ORDER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void paginatedOrdersUseIdPageThenBatchFetch() {
+        Page<Long> ids = orderRepository.findIdsByUserIdOrderByCreatedAtDesc(USER_ID, PageRequest.of(1, 10));
+        List<Order> orders = orderRepository.findWithOrderItemsByIdIn(ids.getContent());
+
+        assertThat(ids.getTotalElements()).isEqualTo(ORDER_COUNT);
+        assertThat(countItems(orders)).isEqualTo(10 * ITEMS_PER_ORDER);
+        // id page + count + batch fetch, independent of page size
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void keysetPagesCostTheSameAtAnyDepth() {
+        List<Long> seen = new ArrayList<>();
+        List<Long> ids = orderRepository.findFirstIdsByUserId(USER_ID, Limit.of(7));
+
+        while (!ids.isEmpty()) {
+            statistics.clear();
+            List<Order> orders = orderRepository.findWithOrderItemsByIdIn(ids);
+            Order last = orders.stream()
+                    .filter(order -> order.getId().equals(ids.get(ids.size() - 1)))
+                    .findFirst()
+                    .orElseThrow();
+            seen.addAll(ids);
+
+            List<Long> next = orderRepository.findIdsByUserIdBeforeCursor(USER_ID,
+                    last.getCreatedAt(), last.getId(), Limit.of(7));
+            // batch fetch + next id page, no count query
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            ids.clear();
+            ids.addAll(next);
+        }
+
+        assertThat(seen).hasSize(ORDER_COUNT).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void statusStreamYieldsEveryMatchingOrder() {
+        try (Stream<Order> orders = orderRepository.streamByStatus(Order.OrderStatus.DELIVERED)) {
+            assertThat(orders.map(Order::getId)).hasSize(ORDER_COUNT / 2).isSorted();
+        }
+    }
+
+    @Test
+    void advanceStatusOnlyMovesMatchingOrdersForward() {
+        List<Long> ids = orderRepository.findAll().stream().map(Order::getId).toList();
+
+        int updated = orderRepository.advanceStatus(ids, Order.OrderStatus.PREPARING,
+                List.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED), LocalDateTime.now());
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(ORDER_COUNT / 2);
+        assertThat(orderRepository.findByStatus(Order.OrderStatus.PREPARING)).hasSize(ORDER_COUNT / 2);
+        assertThat(orderRepository.findByStatus(Order.OrderStatus.DELIVERED)).hasSize(ORDER_COUNT / 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10, 50 })
+    void orderCreationBatchesInserts(int itemCount) {
+        Order order = buildOrder(Order.OrderStatus.PENDING, itemCount);
+
+        orderRepository.save(order);
+        entityManager.flush();
+
+        // at most one id allocation per table plus one batched INSERT per table
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(itemCount + 1);
+    }
+
+    private Order buildOrder(Order.OrderStatus status, int itemCount) {
+        Order order = Order.builder()
+                .userId(USER_ID)
+                .userEmail("user@restaurant.com")
+                .totalPrice(BigDecimal.TEN)
+                .status(status)
+                .paymentStatus(Order.PaymentStatus.PENDING)
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        for (int j = 0; j < itemCount; j++) {
+            items.add(OrderItem.builder()
+                    .order(order)
+                    .menuItemId((long) j + 1)
+                    .menuItemName("Item " + j)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.ONE)
+                    .price(BigDecimal.ONE)
+                    .build());
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+
+    private int countItems(List<Order> orders) {
+        return orders.stream().mapToInt(order -> order.getOrderItems().size()).sum();
+    }
+}
@@ -0,0 +1,50 @@
+package com.restaurant.order.serialization;
+
+import com.restaurant.order.dto.OrderEventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderEventAvroCodecTest {
+
+    private final OrderEventAvroCodec codec = new OrderEventAvroCodec();
+
+    @Test
+    void roundTripsFullEvent() {
+        OrderEventDTO event = OrderEventDTO.builder()
+                .orderId(101L)
+                .userId(7L)
+                .userEmail("user@restaurant.com")
+                .eventType("ORDER_PLACED")
+                .totalPrice(new BigDecimal("498.50"))
+                .status("PENDING")
+                .paymentStatus("PENDING")
+                .specialInstructions("No onions")
+                .timestamp(LocalDateTime.of(2025, 1, 31, 19, 45, 12, 123456000))
+                .orderItems(List.of(OrderEventDTO.OrderItemEventDTO.builder()
+                        .menuItemId(3L)
+                        .menuItemName("Masala Dosa")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("249.25"))
+                        .totalPrice(new BigDecimal("498.50"))
+                        .specialRequests("Extra chutney")
+                        .build()))
+                .build();
+
+        assertThat(codec.decode(codec.encode(event))).isEqualTo(event);
+    }
+
+    @Test
+    void roundTripsMissingOptionalFields() {
+        OrderEventDTO event = OrderEventDTO.builder()
+                .orderId(102L)
+                .orderItems(List.of())
+                .build();
+
+        assertThat(codec.decode(codec.encode(event))).isEqualTo(event);
+    }
+}
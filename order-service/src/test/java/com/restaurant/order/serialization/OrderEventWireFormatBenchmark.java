@@ -0,0 +1,101 @@
+package com.restaurant.order.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.restaurant.order.dto.OrderEventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bytes per event and serialize/deserialize cost of the JSON and Avro encodings
+ * of order-events. Not part of the regular test run; execute with
+ * {@code mvn test -Dtest=OrderEventWireFormatBenchmark}.
+ */
+class OrderEventWireFormatBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final OrderEventAvroCodec avroCodec = new OrderEventAvroCodec();
+
+    @Test
+    void compareWireFormats() throws Exception {
+        System.out.printf("%n%-8s %6s %12s %12s %12s%n", "format", "items", "bytes/event", "ser ns/op", "deser ns/op");
+        for (int items : new int[] { 1, 5, 15 }) {
+            OrderEventDTO event = sampleEvent(items);
+
+            byte[] json = objectMapper.writeValueAsBytes(event);
+            report("json", items, json.length,
+                    measure(event, e -> {
+                        try {
+                            return objectMapper.writeValueAsBytes(e);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }),
+                    measure(json, bytes -> {
+                        try {
+                            return objectMapper.readValue(bytes, OrderEventDTO.class);
+                        } catch (Exception ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }));
+
+            byte[] avro = avroCodec.encode(event);
+            report("avro", items, avro.length, measure(event, avroCodec::encode), measure(avro, avroCodec::decode));
+        }
+    }
+
+    private static void report(String format, int items, int bytes, double serNanos, double deserNanos) {
+        System.out.printf("%-8s %6d %12d %12.0f %12.0f%n", format, items, bytes, serNanos, deserNanos);
+    }
+
+    private static <T> double measure(T input, Function<T, ?> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.apply(input);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.apply(input);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == null) {
+            throw new IllegalStateException("operation produced no output");
+        }
+        return (double) elapsed / ITERATIONS;
+    }
+
+    private static OrderEventDTO sampleEvent(int itemCount) {
+        List<OrderEventDTO.OrderItemEventDTO> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderEventDTO.OrderItemEventDTO.builder()
+                    .menuItemId((long) i + 1)
+                    .menuItemName("Paneer Butter Masala " + i)
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("249.00"))
+                    .totalPrice(new BigDecimal("498.00"))
+                    .build());
+        }
+        return OrderEventDTO.builder()
+                .orderId(123456L)
+                .userId(42L)
+                .userEmail("customer42@restaurant.com")
+                .eventType("ORDER_PLACED")
+                .totalPrice(new BigDecimal("498.00").multiply(BigDecimal.valueOf(itemCount)))
+                .status("PENDING")
+                .paymentStatus("PENDING")
+                .orderItems(items)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
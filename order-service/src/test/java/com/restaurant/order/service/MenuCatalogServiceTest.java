@@ -0,0 +1,131 @@
+package com.restaurant.order.service;
+
+import com.restaurant.order.dto.MenuItemLookupDTO;
+import com.restaurant.order.dto.MenuLookupResponseDTO;
+import com.restaurant.order.dto.OrderItemRequestDTO;
+import com.restaurant.order.dto.OrderRequestDTO;
+import com.restaurant.order.exception.InvalidOrderItemException;
+import com.restaurant.order.exception.MenuUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MenuCatalogServiceTest {
+
+    private final List<Set<String>> calls = new ArrayList<>();
+    private final String etag = "\"v1\"";
+    private boolean menuDown;
+    private final Map<String, MenuItemLookupDTO> menu = Map.of(
+            "1", MenuItemLookupDTO.builder().id("1").name("Masala Dosa").price(new BigDecimal("120")).available(true).build(),
+            "2", MenuItemLookupDTO.builder().id("2").name("Paneer Tikka").price(new BigDecimal("249")).available(false).build());
+
+    @Test
+    void enforcedValidationChargesMenuPrices() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.ENFORCE, 30);
+        OrderRequestDTO request = order(item(1L, "Dosa", "99.00"));
+
+        catalog.validate(request);
+
+        assertThat(request.getOrderItems().get(0).getUnitPrice()).isEqualByComparingTo("120.00");
+        assertThat(request.getOrderItems().get(0).getMenuItemName()).isEqualTo("Masala Dosa");
+    }
+
+    @Test
+    void enforcedValidationRejectsUnknownAndUnavailableItems() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.ENFORCE, 30);
+
+        assertThatThrownBy(() -> catalog.validate(order(item(2L, "Paneer Tikka", "249.00"))))
+                .isInstanceOf(InvalidOrderItemException.class)
+                .hasMessageContaining("not available");
+        assertThatThrownBy(() -> catalog.validate(order(item(404L, "Ghost", "1.00"))))
+                .isInstanceOf(InvalidOrderItemException.class)
+                .hasMessageContaining("does not exist");
+    }
+
+    @Test
+    void freshCatalogAnswersWithoutRemoteCalls() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.ENFORCE, 30);
+        catalog.prefetch(List.of(1L, 2L));
+
+        for (int i = 0; i < 10; i++) {
+            catalog.validate(order(item(1L, "Masala Dosa", "120.00")));
+        }
+
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    void staleCatalogIsRevalidatedAndKeptWhileTheMenuIsDown() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.ENFORCE, 0);
+        catalog.prefetch(List.of(1L));
+        catalog.prefetch(List.of(1L));
+        assertThat(calls).hasSize(2);
+
+        menuDown = true;
+        catalog.validate(order(item(1L, "Masala Dosa", "120.00")));
+        assertThatThrownBy(() -> catalog.validate(order(item(3L, "New Item", "10.00"))))
+                .isInstanceOf(MenuUnavailableException.class);
+    }
+
+    @Test
+    void warnModeNeverRejects() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.WARN, 30);
+        OrderRequestDTO request = order(item(2L, "Paneer Tikka", "10.00"), item(404L, "Ghost", "1.00"));
+
+        catalog.validate(request);
+
+        assertThat(request.getOrderItems().get(0).getUnitPrice()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void offModeNeverCallsTheMenu() {
+        MenuCatalogService catalog = catalog(MenuCatalogService.ValidationMode.OFF, 30);
+
+        catalog.prefetch(List.of(1L, 404L));
+        catalog.validate(order(item(404L, "Ghost", "1.00")));
+
+        assertThat(calls).isEmpty();
+    }
+
+    private MenuCatalogService catalog(MenuCatalogService.ValidationMode mode, long ttlSeconds) {
+        return new MenuCatalogService(RestClient.builder(), "http://menu", mode, ttlSeconds, 1000) {
+            @Override
+            MenuLookupResponseDTO fetch(Set<String> ids) {
+                if (menuDown) {
+                    throw new ResourceAccessException("connection refused");
+                }
+                calls.add(ids);
+                return MenuLookupResponseDTO.builder()
+                        .etag(etag)
+                        .items(ids.stream().filter(menu::containsKey).map(menu::get).toList())
+                        .missing(ids.stream().filter(id -> !menu.containsKey(id)).toList())
+                        .build();
+            }
+        };
+    }
+
+    private static OrderRequestDTO order(OrderItemRequestDTO... items) {
+        return OrderRequestDTO.builder()
+                .orderItems(new ArrayList<>(List.of(items)))
+                .phoneNumber("9876543210")
+                .build();
+    }
+
+    private static OrderItemRequestDTO item(Long menuItemId, String name, String unitPrice) {
+        return OrderItemRequestDTO.builder()
+                .menuItemId(menuItemId)
+                .menuItemName(name)
+                .quantity(1)
+                .unitPrice(new BigDecimal(unitPrice))
+                .build();
+    }
+}
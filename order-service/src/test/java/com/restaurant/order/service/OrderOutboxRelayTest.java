@@ -0,0 +1,133 @@
+package com.restaurant.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.order.entity.OrderOutboxEvent;
+import com.restaurant.order.repository.OrderOutboxRepository;
+import com.restaurant.order.repository.OutboxRelayLeaseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderOutboxRelayTest {
+
+    private OrderOutboxRepository outboxRepository;
+    private OutboxRelayLeaseRepository leaseRepository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private OrderOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxRepository = mock(OrderOutboxRepository.class);
+        leaseRepository = mock(OutboxRelayLeaseRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        relay = new OrderOutboxRelay(outboxRepository, leaseRepository, kafkaTemplate, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 200);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 200L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 10);
+        ReflectionTestUtils.setField(relay, "leaseMs", 30_000L);
+    }
+
+    @Test
+    void failedEventHoldsBackLaterEventsForTheSameOrder() {
+        batch(event(1, 1L), event(2, 2L), event(3, 1L));
+        when(kafkaTemplate.send(eq("order-events"), eq("1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaTemplate.send(eq("order-events"), eq("2"), any())).thenReturn(acked());
+
+        assertThat(relay.drainBatch()).isEqualTo(1);
+
+        verify(kafkaTemplate, times(1)).send(eq("order-events"), eq("1"), any());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(outboxRepository).incrementAttempts(List.of(1L));
+    }
+
+    @Test
+    void nextEventForAnOrderIsSentOnlyAfterTheAck() {
+        batch(event(1, 1L), event(2, 1L));
+        List<String> sent = new ArrayList<>();
+        CompletableFuture<SendResult<String, Object>> slow = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq("order-events"), eq("1"), any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(2).toString());
+            return sent.size() == 1 ? slow : acked();
+        });
+
+        relay.drainBatch();
+        slow.complete(null);
+
+        // the first send never completed: the second was not sent, nor is it once the first completes late
+        assertThat(sent).hasSize(1);
+        verify(outboxRepository).incrementAttempts(List.of(1L));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void nextEventIsNotSentFromTheProducerNetworkThread() {
+        batch(event(1, 1L), event(2, 1L));
+        List<String> sendingThreads = new ArrayList<>();
+        CompletableFuture<SendResult<String, Object>> first = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq("order-events"), eq("1"), any())).thenAnswer(invocation -> {
+            sendingThreads.add(Thread.currentThread().getName());
+            return sendingThreads.size() == 1 ? first : acked();
+        });
+        // the producer completes sends on its I/O thread
+        Thread.ofPlatform().name("kafka-producer-network-thread | test").start(() -> first.complete(null));
+
+        assertThat(relay.drainBatch()).isEqualTo(2);
+
+        assertThat(sendingThreads).hasSize(2);
+        assertThat(sendingThreads.get(1)).isEqualTo("order-outbox-send");
+    }
+
+    @Test
+    void relayDoesNothingWithoutTheLease() {
+        when(leaseRepository.tryAcquire(anyString(), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById("order-outbox-relay")).thenReturn(true);
+
+        relay.relay();
+
+        verify(outboxRepository, never()).findNextBatch(anyInt(), any(Pageable.class));
+    }
+
+    private void batch(OrderOutboxEvent... events) {
+        when(outboxRepository.findNextBatch(anyInt(), any(Pageable.class))).thenReturn(List.of(events));
+    }
+
+    private static OrderOutboxEvent event(long id, Long orderId) {
+        return OrderOutboxEvent.builder()
+                .id(id)
+                .orderId(orderId)
+                .eventType("ORDER_STATUS_CHANGED")
+                .payload("{\"orderId\":" + orderId + ",\"status\":\"S" + id + "\"}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+}